@@ -0,0 +1,68 @@
+package ru.solnyshko.common.spring.jpa.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// <!> In-memory H2 database with a plain Hibernate SessionFactory, no Spring context is started for benchmarks.
+// <!> Column naming follows Spring Boot defaults (created_at for createdAt), same as the test schema.
+// <!> Note: numbers are relative, an in-process database has no network round trip a real one has.
+
+public class BenchmarkDatabase implements AutoCloseable {
+    private final SessionFactory sessionFactory;
+
+    private BenchmarkDatabase(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    public static BenchmarkDatabase create(String name, Class<?>... entityClasses) {
+        Configuration configuration = new Configuration()
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.USER, "sa")
+                .setProperty(AvailableSettings.POOL_SIZE, "16")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.SHOW_SQL, "false");
+
+        for (Class<?> entityClass : entityClasses) {
+            configuration.addAnnotatedClass(entityClass);
+        }
+
+        return new BenchmarkDatabase(configuration.buildSessionFactory());
+    }
+
+    public SessionFactory getSessionFactory() {
+        return sessionFactory;
+    }
+
+    public void execute(Consumer<EntityManager> consumer) {
+        inTransaction(entityManager -> {
+            consumer.accept(entityManager);
+            return null;
+        });
+    }
+
+    public <R> R inTransaction(Function<EntityManager, R> function) {
+        try (EntityManager entityManager = sessionFactory.createEntityManager()) {
+            EntityTransaction transaction = entityManager.getTransaction();
+            transaction.begin();
+
+            try {
+                return function.apply(entityManager);
+            } finally {
+                transaction.commit();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        sessionFactory.close();
+    }
+}
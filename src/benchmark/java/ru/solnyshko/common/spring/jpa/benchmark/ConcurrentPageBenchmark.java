@@ -0,0 +1,89 @@
+package ru.solnyshko.common.spring.jpa.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+import ru.solnyshko.common.spring.jpa.support.ConcurrentPageExecutor;
+import ru.solnyshko.common.spring.jpa.support.HintedSpecificationExecutor;
+import ru.solnyshko.common.spring.jpa.support.SpecificationQueryHints;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// <!> Latency of a full first page with exact total: sequential page & count vs concurrent ones.
+// <!> Count scans every row (comment is not indexed), so both queries cost about the same.
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class ConcurrentPageBenchmark {
+    private static final int ROW_COUNT = 200_000;
+    private static final Pageable PAGEABLE = PageRequest.of(0, 50, Sort.by("id"));
+
+    private BenchmarkDatabase database;
+    private ExecutorService executorService;
+
+    private ConcurrentPageExecutor exactExecutor;
+    private ConcurrentPageExecutor skipWhenShortExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create("concurrent", Payment.class);
+        database.execute(entityManager -> PaymentFixtures.insertPayments(entityManager, ROW_COUNT));
+
+        executorService = Executors.newFixedThreadPool(2);
+        exactExecutor = new ConcurrentPageExecutor(database.getSessionFactory(), executorService)
+                .setCountMode(ConcurrentPageExecutor.CountMode.EXACT);
+        skipWhenShortExecutor = new ConcurrentPageExecutor(database.getSessionFactory(), executorService)
+                .setCountMode(ConcurrentPageExecutor.CountMode.SKIP_WHEN_SHORT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+        database.close();
+    }
+
+    @Benchmark
+    public Page<Payment> sequential() {
+        return database.inTransaction(entityManager ->
+                new HintedSpecificationExecutor(entityManager, SpecificationQueryHints.readOnly())
+                        .findAll(Payment.class, specification(), PAGEABLE));
+    }
+
+    @Benchmark
+    public Page<Payment> concurrentExact() {
+        return exactExecutor.findAll(Payment.class, specification(), PAGEABLE);
+    }
+
+    @Benchmark
+    public Page<Payment> concurrentSkipWhenShort() {
+        return skipWhenShortExecutor.findAll(Payment.class, specification(), PAGEABLE);
+    }
+
+    private static Specification<Payment> specification() {
+        return PaymentSpec.statusEq(PaymentStatus.PAID).and(PaymentSpec.commentLike("7"));
+    }
+}
@@ -0,0 +1,86 @@
+package ru.solnyshko.common.spring.jpa.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.support.SpecificationQueries;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// <!> Generated like matcher over cached entities vs the same filter as a query,
+// <!> trimLowerCase is the former matcher body allocating two strings per entity (see -prof gc).
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatcherBenchmark {
+    private static final String PATTERN = "MENT 42";
+
+    @Param({"10000"})
+    private int rowCount;
+
+    private BenchmarkDatabase database;
+    private List<Payment> cachedPayments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create("matcher", Payment.class);
+        database.execute(entityManager -> {
+            PaymentFixtures.insertPayments(entityManager, rowCount);
+
+            // <!> Mixed case comments, lower case ones would let toLowerCase() return the same instance
+            entityManager.createNativeQuery("update payments set comment = 'Card Payment ' || id").executeUpdate();
+        });
+
+        cachedPayments = database.inTransaction(entityManager -> SpecificationQueries
+                .createQuery(entityManager, Payment.class, null)
+                .getResultList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public long matcher() {
+        return cachedPayments.stream()
+                .filter(PaymentSpec.Matchers.commentLike(PATTERN))
+                .count();
+    }
+
+    @Benchmark
+    public long trimLowerCase() {
+        String lowerCasePattern = PATTERN.toLowerCase().trim();
+
+        return cachedPayments.stream()
+                .filter(payment -> payment.getComment() != null
+                        && payment.getComment().trim().toLowerCase().contains(lowerCasePattern))
+                .count();
+    }
+
+    @Benchmark
+    public long query() {
+        return database.inTransaction(entityManager -> SpecificationQueries
+                .createQuery(entityManager, Payment.class, PaymentSpec.commentLike(PATTERN))
+                .getResultList()
+                .size());
+    }
+}
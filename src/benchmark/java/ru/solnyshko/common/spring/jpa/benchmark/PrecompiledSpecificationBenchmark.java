@@ -0,0 +1,94 @@
+package ru.solnyshko.common.spring.jpa.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+import ru.solnyshko.common.spring.jpa.support.PrecompiledSpecificationExecutor;
+import ru.solnyshko.common.spring.jpa.support.SpecificationQueries;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// <!> Same AND-ed descriptor filter through the Criteria path and the precompiled JPQL path.
+// <!> Selective filter on an indexed column, so query building rather than row reading dominates.
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class PrecompiledSpecificationBenchmark {
+    private static final int ROW_COUNT = 10_000;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private PrecompiledSpecificationExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create("precompiled", Payment.class);
+        database.execute(entityManager -> PaymentFixtures.insertPayments(entityManager, ROW_COUNT));
+
+        entityManager = database.getSessionFactory().createEntityManager();
+        executor = new PrecompiledSpecificationExecutor(entityManager);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    public List<Payment> criteriaFindAll() {
+        List<Payment> payments = SpecificationQueries
+                .createQuery(entityManager, Payment.class, specification())
+                .getResultList();
+
+        entityManager.clear();
+        return payments;
+    }
+
+    @Benchmark
+    public List<Payment> precompiledFindAll() {
+        List<Payment> payments = executor.findAll(Payment.class, specification());
+
+        entityManager.clear();
+        return payments;
+    }
+
+    @Benchmark
+    public long criteriaCount() {
+        return SpecificationQueries
+                .createCountQuery(entityManager, Payment.class, specification())
+                .getSingleResult();
+    }
+
+    @Benchmark
+    public long precompiledCount() {
+        return executor.count(Payment.class, specification());
+    }
+
+    // <!> Built per call, like a request handler does, matches 100 rows
+    private static Specification<Payment> specification() {
+        return PaymentSpec.customerIdEq(8L)
+                .and(PaymentSpec.statusEq(PaymentStatus.PAID))
+                .and(PaymentSpec.isNotArchived());
+    }
+}
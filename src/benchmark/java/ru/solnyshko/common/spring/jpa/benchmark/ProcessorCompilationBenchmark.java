@@ -0,0 +1,149 @@
+package ru.solnyshko.common.spring.jpa.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.solnyshko.common.spring.jpa.annotation.processor.SimpleSpecificationGenerator;
+
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// <!> Clean compilation of a synthetic module of 500 entities by javac: without annotation processing
+// <!> (baseline) vs with the generator, so the difference is the cost of generating & compiling Spec classes.
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ProcessorCompilationBenchmark {
+    private static final int ENTITY_COUNT = 500;
+
+    private static final String ENTITY_SOURCE = """
+            package sample;
+
+            import jakarta.persistence.Entity;
+            import jakarta.persistence.EnumType;
+            import jakarta.persistence.Enumerated;
+            import jakarta.persistence.Id;
+
+            import java.time.LocalDate;
+            import java.time.LocalDateTime;
+
+            @Entity
+            public class Gauge {
+                public enum Kind { SMALL, LARGE }
+
+                @Id private Long id;
+                private int hits;
+                private long ownerId;
+                private Boolean isVisible;
+                private String name;
+                @Enumerated(EnumType.STRING) private Kind kind;
+                private LocalDate day;
+                private LocalDateTime createdAt;
+
+                public Long getId() { return id; }
+                public int getHits() { return hits; }
+                public long getOwnerId() { return ownerId; }
+                public Boolean getIsVisible() { return isVisible; }
+                public String getName() { return name; }
+                public Kind getKind() { return kind; }
+                public LocalDate getDay() { return day; }
+                public LocalDateTime getCreatedAt() { return createdAt; }
+            }
+            """;
+
+    private List<SourceFile> sourceFiles;
+    private Path outputDir;
+
+    @Setup(Level.Trial)
+    public void setUpSources() {
+        sourceFiles = new ArrayList<>();
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            String entityName = "Gauge" + i;
+            sourceFiles.add(new SourceFile("sample." + entityName, ENTITY_SOURCE.replace("Gauge", entityName)));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("specgen-benchmark");
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteOutputDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean withoutProcessing() {
+        return compile(List.of());
+    }
+
+    @Benchmark
+    public boolean withGenerator() {
+        return compile(List.of(new SimpleSpecificationGenerator()));
+    }
+
+    private boolean compile(List<Processor> processors) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        List<String> options = new ArrayList<>(List.of(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDir.toString(),
+                "-s", outputDir.toString()
+        ));
+        if (processors.isEmpty()) {
+            options.add("-proc:none");
+        }
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, sourceFiles);
+        task.setProcessors(processors);
+
+        if (!task.call()) {
+            throw new IllegalStateException("Compilation of synthetic entities failed");
+        }
+        return true;
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        private SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
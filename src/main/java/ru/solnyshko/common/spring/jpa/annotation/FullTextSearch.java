@@ -0,0 +1,16 @@
+package ru.solnyshko.common.spring.jpa.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.CLASS)
+public @interface FullTextSearch {
+
+    // <!> PostgreSQL only, other dialects run a plain lower() like substring match without index support.
+    // <!> Text search configuration passed to to_tsvector & plainto_tsquery on PostgreSQL.
+    // <!> Must match the expression index, e.g. gin (to_tsvector('english', description)).
+    String configuration() default "simple";
+}
@@ -0,0 +1,22 @@
+package ru.solnyshko.common.spring.jpa.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.CLASS)
+public @interface SpecQueryShape {
+
+    Mode value();
+
+    enum Mode {
+        // <!> Values are rendered into SQL, one query shape per value.
+        // <!> Meant for low-cardinality enums & booleans covered by partial indexes.
+        LITERAL,
+
+        // <!> Values are bound as parameters, one query shape for any value.
+        PARAMETER
+    }
+}
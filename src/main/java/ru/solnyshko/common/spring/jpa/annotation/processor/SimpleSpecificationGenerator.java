@@ -4,14 +4,19 @@ import com.google.auto.service.AutoService;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
 import lombok.SneakyThrows;
-import lombok.experimental.UtilityClass;
+import ru.solnyshko.common.spring.jpa.annotation.processor.util.EntityIndexes;
 import ru.solnyshko.common.spring.jpa.annotation.processor.util.FieldMetadata;
+import ru.solnyshko.common.spring.jpa.annotation.processor.util.FieldMetadataUtil;
+import ru.solnyshko.common.spring.jpa.annotation.processor.util.GeneratorOptions;
+import ru.solnyshko.common.spring.jpa.annotation.processor.util.IndexReportUtil;
 import ru.solnyshko.common.spring.jpa.annotation.processor.util.TypeSpecBuilderUtil;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Generated;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
@@ -21,10 +26,15 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @SupportedAnnotationTypes("jakarta.persistence.Entity")
@@ -32,6 +42,27 @@ import java.util.Set;
 @AutoService(Processor.class)
 public class SimpleSpecificationGenerator extends AbstractProcessor {
 
+    private static final String GRADLE_ISOLATING_OPTION = "org.gradle.annotation.processing.isolating";
+
+    private GeneratorOptions generatorOptions;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        generatorOptions = GeneratorOptions.of(processingEnv.getOptions());
+    }
+
+    // <!> Processor is registered as dynamic in META-INF/gradle/incremental.annotation.processors,
+    // <!> each Spec class depends on its entity only, so it reports itself as isolating.
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> supportedOptions = new HashSet<>(GeneratorOptions.getSupportedOptions());
+        supportedOptions.add(GRADLE_ISOLATING_OPTION);
+
+        return supportedOptions;
+    }
+
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         for (TypeElement annotation : annotations) {
@@ -53,64 +84,141 @@ public class SimpleSpecificationGenerator extends AbstractProcessor {
 
     @SneakyThrows
     private void generateSpecClass(String packageName, String className, Element classElement) {
-        List<FieldMetadata> fieldsMetadata = new ArrayList<>();
-
-        for (Element enclosedElement : classElement.getEnclosedElements()) {
-            if (enclosedElement.getKind() == ElementKind.FIELD) {
-                fieldsMetadata.add(FieldMetadata.of(enclosedElement));
-            }
-        }
+        List<FieldMetadata> fieldsMetadata = FieldMetadataUtil.collectFieldsMetadata(
+                classElement,
+                processingEnv.getTypeUtils()
+        );
 
         String specClassName = className + "Spec";
         String specClassPath = packageName + "." + specClassName;
 
-        JavaFileObject builderFile = processingEnv.getFiler().createSourceFile(specClassPath);
+        EntityIndexes entityIndexes = EntityIndexes.of(classElement);
+        fieldsMetadata = applyUnindexedFiltersPolicy(fieldsMetadata, entityIndexes);
+
+        SpecClass specClass = buildJavaFile(
+                packageName,
+                specClassName,
+                className,
+                fieldsMetadata,
+                entityIndexes
+        );
+
+        JavaFileObject builderFile = processingEnv.getFiler().createSourceFile(specClassPath, classElement);
         try (PrintWriter out = new PrintWriter(builderFile.openWriter())) {
-            JavaFile javaFile = buildJavaFile(
-                    packageName,
-                    specClassName,
-                    className,
-                    fieldsMetadata
-            );
-
-            out.write(javaFile.toString());
+            out.write(specClass.javaFile().toString());
+        }
+
+        if (generatorOptions.isIndexReportEnabled()) {
+            writeIndexReport(specClassPath, fieldsMetadata, entityIndexes, specClass.filterMethodsByField(), classElement);
+        }
+    }
+
+    private List<FieldMetadata> applyUnindexedFiltersPolicy(
+            List<FieldMetadata> fieldsMetadata,
+            EntityIndexes entityIndexes
+    ) {
+        GeneratorOptions.UnindexedFilters unindexedFilters = generatorOptions.getUnindexedFilters();
+        if (unindexedFilters == GeneratorOptions.UnindexedFilters.GENERATE) {
+            return fieldsMetadata;
+        }
+
+        List<FieldMetadata> filteredFieldsMetadata = new ArrayList<>();
+
+        for (FieldMetadata fieldMetadata : fieldsMetadata) {
+            boolean isUnindexed = EntityIndexes.isIndexCandidate(fieldMetadata)
+                    && !entityIndexes.isIndexed(fieldMetadata);
+
+            if (!isUnindexed) {
+                filteredFieldsMetadata.add(fieldMetadata);
+                continue;
+            }
+
+            if (unindexedFilters == GeneratorOptions.UnindexedFilters.WARN) {
+                processingEnv.getMessager().printMessage(
+                        Diagnostic.Kind.WARNING,
+                        IndexReportUtil.buildWarning(fieldMetadata),
+                        fieldMetadata.getFieldElement()
+                );
+
+                filteredFieldsMetadata.add(fieldMetadata);
+            }
         }
+
+        return filteredFieldsMetadata;
     }
 
-    public JavaFile buildJavaFile(
+    @SneakyThrows
+    private void writeIndexReport(
+            String specClassPath,
+            List<FieldMetadata> fieldsMetadata,
+            EntityIndexes entityIndexes,
+            Map<String, Set<String>> filterMethodsByField,
+            Element classElement
+    ) {
+        String report = IndexReportUtil.buildReport(
+                specClassPath,
+                fieldsMetadata,
+                entityIndexes,
+                filterMethodsByField
+        );
+
+        FileObject reportFile = processingEnv.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT,
+                "",
+                "META-INF/spec-index-reports/" + specClassPath + ".txt",
+                classElement
+        );
+
+        try (PrintWriter out = new PrintWriter(reportFile.openWriter())) {
+            out.write(report);
+        }
+    }
+
+    public SpecClass buildJavaFile(
             String packageName,
             String className,
             String entityName,
-            List<FieldMetadata> fieldsMetadata
+            List<FieldMetadata> fieldsMetadata,
+            EntityIndexes entityIndexes
     ) {
-        AnnotationSpec utilityClassAnnotationSpec = AnnotationSpec
-                .builder(UtilityClass.class)
-                .build();
-
         AnnotationSpec generatedAnnotationSpec = AnnotationSpec
                 .builder(Generated.class)
                 .addMember("value", "$S", this.getClass().getName())
                 .build();
 
+        MethodSpec privateConstructorSpec = MethodSpec
+                .constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build();
+
         TypeSpec.Builder typeSpecBuilder = TypeSpec
                 .classBuilder(className)
-                .addModifiers(Modifier.PUBLIC)
-                .addAnnotation(utilityClassAnnotationSpec)
-                .addAnnotation(generatedAnnotationSpec);
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(generatedAnnotationSpec)
+                .addMethod(privateConstructorSpec);
 
         ClassName entityTypeName = ClassName.get(
                 packageName,
                 entityName
         );
 
-        TypeSpecBuilderUtil.generateSpecMethods(
+        Map<String, Set<String>> filterMethodsByField = TypeSpecBuilderUtil.generateSpecMethods(
                 typeSpecBuilder,
                 entityTypeName,
-                fieldsMetadata
+                fieldsMetadata,
+                entityIndexes,
+                generatorOptions
         );
 
-        return JavaFile
+        JavaFile javaFile = JavaFile
                 .builder(packageName, typeSpecBuilder.build())
                 .build();
+
+        return new SpecClass(javaFile, filterMethodsByField);
+    }
+
+    // <!> Generated source together with names of its Predicate methods grouped by entity field name
+
+    public record SpecClass(JavaFile javaFile, Map<String, Set<String>> filterMethodsByField) {
     }
 }
@@ -0,0 +1,107 @@
+package ru.solnyshko.common.spring.jpa.annotation.processor.util;
+
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class EntityIndexes {
+    // <!> Only leading columns are collected, B-tree index can't serve a filter on its non-leading column
+    private final Set<String> leadingColumns;
+
+    private EntityIndexes(Set<String> leadingColumns) {
+        this.leadingColumns = leadingColumns;
+    }
+
+    public static EntityIndexes of(Element classElement) {
+        Set<String> leadingColumns = new HashSet<>();
+
+        for (AnnotationMirror tableMirror : classElement.getAnnotationMirrors()) {
+            if (!tableMirror.getAnnotationType().toString().equals(Table.class.getName())) {
+                continue;
+            }
+
+            for (AnnotationMirror indexMirror : getNestedAnnotations(tableMirror, "indexes()")) {
+                if (isAnnotationOf(indexMirror, Index.class)) {
+                    String columnList = getValue(indexMirror, "columnList()").toString();
+                    leadingColumns.add(normalizeColumnName(columnList.split(",")[0]));
+                }
+            }
+
+            for (AnnotationMirror constraintMirror : getNestedAnnotations(tableMirror, "uniqueConstraints()")) {
+                if (isAnnotationOf(constraintMirror, UniqueConstraint.class)) {
+                    Object columnNames = getValue(constraintMirror, "columnNames()");
+
+                    if (columnNames instanceof List<?> columnNameValues && !columnNameValues.isEmpty()) {
+                        Object leadingColumn = ((AnnotationValue) columnNameValues.get(0)).getValue();
+                        leadingColumns.add(normalizeColumnName(leadingColumn.toString()));
+                    }
+                }
+            }
+        }
+
+        return new EntityIndexes(leadingColumns);
+    }
+
+    public boolean isIndexed(FieldMetadata fieldMetadata) {
+        return fieldMetadata.fieldCategory == FieldCategory.PRIMARY_ID
+                || fieldMetadata.isUniqueColumn
+                || leadingColumns.contains(normalizeColumnName(fieldMetadata.columnName));
+    }
+
+    // <!> Collections are filtered through joins & booleans are rarely selective enough for an index.
+
+    public static boolean isIndexCandidate(FieldMetadata fieldMetadata) {
+        return switch (fieldMetadata.fieldCategory) {
+            case FOREIGN_ID, ENUM, CHARACTER, STRING, NUMERIC, TEMPORAL -> true;
+            default -> false;
+        };
+    }
+
+    // UTILITY
+
+    // <!> Names are compared ignoring case, quotes & underscores,
+    // <!> so that createdAt field matches created_at column of default Spring naming strategy.
+
+    private static String normalizeColumnName(String columnName) {
+        return columnName.trim()
+                .split("\\s+")[0]
+                .replace("_", "")
+                .replace("\"", "")
+                .replace("`", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAnnotationOf(AnnotationMirror mirror, Class<?> annotationClass) {
+        return mirror.getAnnotationType().toString().equals(annotationClass.getName());
+    }
+
+    private static List<AnnotationMirror> getNestedAnnotations(AnnotationMirror mirror, String elementName) {
+        Object value = getValue(mirror, elementName);
+
+        if (!(value instanceof List<?> values)) {
+            return List.of();
+        }
+
+        return values.stream()
+                .map(item -> ((AnnotationValue) item).getValue())
+                .filter(AnnotationMirror.class::isInstance)
+                .map(AnnotationMirror.class::cast)
+                .toList();
+    }
+
+    private static Object getValue(AnnotationMirror mirror, String elementName) {
+        return mirror.getElementValues().entrySet().stream()
+                .filter(entry -> entry.getKey().toString().equals(elementName))
+                .map(entry -> entry.getValue().getValue())
+                .findFirst()
+                .orElse("");
+    }
+}
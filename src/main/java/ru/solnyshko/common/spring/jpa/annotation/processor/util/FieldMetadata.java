@@ -1,14 +1,26 @@
 package ru.solnyshko.common.spring.jpa.annotation.processor.util;
 
 import com.squareup.javapoet.TypeName;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import ru.solnyshko.common.spring.jpa.annotation.FullTextSearch;
+import ru.solnyshko.common.spring.jpa.annotation.SpecQueryShape;
 
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
+import javax.lang.model.type.DeclaredType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @Setter(AccessLevel.PRIVATE)
 @Accessors(chain = true)
@@ -19,18 +31,45 @@ public class FieldMetadata {
     protected FieldCategory fieldCategory;
     protected boolean isNullable = false;
     protected boolean isPrimitive = false;
+    protected SpecQueryShape.Mode queryShape;
+    protected String fullTextConfiguration;
+
+    protected String columnName;
+    protected boolean isUniqueColumn = false;
+
+    // <!> Path from entity root, e.g. [address, city] for embedded value object fields
+    protected List<String> attributePath;
+    protected boolean isEmbedded = false;
+    protected boolean isElementCollection = false;
+    protected boolean isEmbeddableElementCollection = false;
+
+    @Getter
+    protected Element fieldElement;
 
     private FieldMetadata() {}
 
     public static FieldMetadata of(Element enclosedElement) {
         FieldMetadata fieldMetadata = new FieldMetadata()
                 .setFieldName(enclosedElement.toString())
-                .setFieldTypeName(TypeName.get(enclosedElement.asType()));
+                .setFieldElement(enclosedElement)
+                .setFieldTypeName(TypeName.get(enclosedElement.asType()))
+                .setQueryShape(getQueryShape(enclosedElement))
+                .setFullTextConfiguration(getFullTextConfiguration(enclosedElement))
+                .setColumnName(getColumnName(enclosedElement))
+                .setUniqueColumn(isUniqueColumn(enclosedElement))
+                .setAttributePath(List.of(enclosedElement.toString()))
+                .setEmbedded(isEmbeddedField(enclosedElement))
+                .setElementCollection(hasAnnotation(enclosedElement, ElementCollection.class.getName()))
+                .setEmbeddableElementCollection(hasEmbeddableElements(enclosedElement));
 
         if (isCollection(TypeName.get(enclosedElement.asType()))) {
             return fieldMetadata.setFieldCategory(FieldCategory.COLLECTION);
         }
 
+        if (fieldMetadata.isEmbedded) {
+            return fieldMetadata.setFieldCategory(FieldCategory.OBJECT);
+        }
+
         if (isEnumeratedStringField(enclosedElement)){
             return fieldMetadata.setFieldCategory(FieldCategory.ENUM);
         }
@@ -86,6 +125,43 @@ public class FieldMetadata {
         return fieldMetadata;
     }
 
+    // <!> Field of an @Embeddable type, its name is prefixed with embedded field name (address + City)
+
+    public static FieldMetadata of(Element enclosedElement, FieldMetadata embeddedMetadata) {
+        String attributeName = enclosedElement.toString();
+
+        List<String> attributePath = new ArrayList<>(embeddedMetadata.attributePath);
+        attributePath.add(attributeName);
+
+        return of(enclosedElement)
+                .setFieldName(embeddedMetadata.fieldName
+                        + Character.toUpperCase(attributeName.charAt(0))
+                        + attributeName.substring(1))
+                .setAttributePath(attributePath);
+    }
+
+    private static boolean isEmbeddedField(Element enclosedElement) {
+        if (hasAnnotation(enclosedElement, Embedded.class.getName())
+                || hasAnnotation(enclosedElement, EmbeddedId.class.getName())) {
+            return true;
+        }
+
+        return enclosedElement.asType() instanceof DeclaredType declaredType
+                && hasAnnotation(declaredType.asElement(), Embeddable.class.getName());
+    }
+
+    private static boolean hasEmbeddableElements(Element enclosedElement) {
+        return enclosedElement.asType() instanceof DeclaredType declaredType
+                && declaredType.getTypeArguments().stream().anyMatch(typeArgument ->
+                        typeArgument instanceof DeclaredType elementType
+                                && hasAnnotation(elementType.asElement(), Embeddable.class.getName()));
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        return element.getAnnotationMirrors().stream().anyMatch(
+                mirror -> mirror.getAnnotationType().toString().equals(annotationName));
+    }
+
     private static boolean isPrimaryIdField(Element enclosedElement) {
         return enclosedElement.getAnnotationMirrors().stream().anyMatch(
                 mirror -> mirror.getAnnotationType().toString().equals(Id.class.getName()));
@@ -103,6 +179,51 @@ public class FieldMetadata {
                 .anyMatch(mirror -> getAnnotationValue(mirror).equals("STRING"));
     }
 
+    private static SpecQueryShape.Mode getQueryShape(Element enclosedElement) {
+        return enclosedElement.getAnnotationMirrors()
+                .stream()
+                .filter(mirror -> mirror.getAnnotationType().toString().equals(SpecQueryShape.class.getName()))
+                .map(mirror -> SpecQueryShape.Mode.valueOf(getAnnotationValue(mirror)))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String getFullTextConfiguration(Element enclosedElement) {
+        return enclosedElement.getAnnotationMirrors()
+                .stream()
+                .filter(mirror -> mirror.getAnnotationType().toString().equals(FullTextSearch.class.getName()))
+                .map(mirror -> mirror.getElementValues().entrySet().stream()
+                        .filter(entry -> entry.getKey().toString().equals("configuration()"))
+                        .map(entry -> entry.getValue().getValue().toString())
+                        .findFirst()
+                        .orElse("simple"))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String getColumnName(Element enclosedElement) {
+        return getColumnAnnotationValue(enclosedElement, "name()")
+                .map(Object::toString)
+                .filter(columnName -> !columnName.isBlank())
+                .orElse(enclosedElement.toString());
+    }
+
+    private static boolean isUniqueColumn(Element enclosedElement) {
+        return getColumnAnnotationValue(enclosedElement, "unique()")
+                .map(unique -> (Boolean) unique)
+                .orElse(false);
+    }
+
+    private static Optional<Object> getColumnAnnotationValue(Element enclosedElement, String elementName) {
+        return enclosedElement.getAnnotationMirrors()
+                .stream()
+                .filter(mirror -> mirror.getAnnotationType().toString().equals(Column.class.getName()))
+                .flatMap(mirror -> mirror.getElementValues().entrySet().stream())
+                .filter(entry -> entry.getKey().toString().equals(elementName))
+                .map(entry -> entry.getValue().getValue())
+                .findFirst();
+    }
+
     private static boolean isCollection(TypeName elementTypeName) {
         // Other collection classes may be included from here if needed
         return elementTypeName.toString().contains("java.util")
@@ -0,0 +1,64 @@
+package ru.solnyshko.common.spring.jpa.annotation.processor.util;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FieldMetadataUtil {
+
+    // <!> Fields of @Embedded / @Embeddable value objects are collected recursively,
+    // <!> they are mapped to columns of the entity table, so filters on them need no joins.
+    // <!> Note: collections inside embeddables are skipped, only null checks are generated for them.
+
+    public static List<FieldMetadata> collectFieldsMetadata(Element classElement, Types typeUtils) {
+        List<FieldMetadata> fieldsMetadata = new ArrayList<>();
+
+        for (Element enclosedElement : classElement.getEnclosedElements()) {
+            if (enclosedElement.getKind() == ElementKind.FIELD) {
+                FieldMetadata fieldMetadata = FieldMetadata.of(enclosedElement);
+                fieldsMetadata.add(fieldMetadata);
+
+                if (fieldMetadata.isEmbedded) {
+                    collectEmbeddedFieldsMetadata(fieldMetadata, typeUtils, fieldsMetadata);
+                }
+            }
+        }
+
+        return fieldsMetadata;
+    }
+
+    private static void collectEmbeddedFieldsMetadata(
+            FieldMetadata embeddedMetadata,
+            Types typeUtils,
+            List<FieldMetadata> fieldsMetadata
+    ) {
+        Element embeddableElement = typeUtils.asElement(embeddedMetadata.fieldElement.asType());
+        if (embeddableElement == null) {
+            return;
+        }
+
+        for (Element enclosedElement : embeddableElement.getEnclosedElements()) {
+            boolean isInstanceField = enclosedElement.getKind() == ElementKind.FIELD
+                    && !enclosedElement.getModifiers().contains(Modifier.STATIC)
+                    && !enclosedElement.getModifiers().contains(Modifier.TRANSIENT);
+
+            if (!isInstanceField) {
+                continue;
+            }
+
+            FieldMetadata fieldMetadata = FieldMetadata.of(enclosedElement, embeddedMetadata);
+            if (fieldMetadata.fieldCategory == FieldCategory.COLLECTION) {
+                continue;
+            }
+
+            fieldsMetadata.add(fieldMetadata);
+
+            if (fieldMetadata.isEmbedded) {
+                collectEmbeddedFieldsMetadata(fieldMetadata, typeUtils, fieldsMetadata);
+            }
+        }
+    }
+}
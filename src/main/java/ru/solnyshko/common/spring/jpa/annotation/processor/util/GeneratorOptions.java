@@ -0,0 +1,66 @@
+package ru.solnyshko.common.spring.jpa.annotation.processor.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter(AccessLevel.PRIVATE)
+@Accessors(chain = true)
+public class GeneratorOptions {
+    public static final String METRICS_OPTION = "specgen.metrics";
+    public static final String MATCHERS_OPTION = "specgen.matchers";
+    public static final String DESCRIPTORS_OPTION = "specgen.descriptors";
+    public static final String AGGREGATES_OPTION = "specgen.aggregates";
+    public static final String INDEX_REPORT_OPTION = "specgen.indexReport";
+    public static final String UNINDEXED_FILTERS_OPTION = "specgen.unindexedFilters";
+
+    protected boolean isMetricsEnabled = false;
+    protected boolean isMatchersEnabled = false;
+    protected boolean isDescriptorsEnabled = false;
+    protected boolean isAggregatesEnabled = false;
+    protected boolean isIndexReportEnabled = false;
+    protected UnindexedFilters unindexedFilters = UnindexedFilters.GENERATE;
+
+    private GeneratorOptions() {}
+
+    public static Set<String> getSupportedOptions() {
+        return Set.of(
+                METRICS_OPTION,
+                MATCHERS_OPTION,
+                DESCRIPTORS_OPTION,
+                AGGREGATES_OPTION,
+                INDEX_REPORT_OPTION,
+                UNINDEXED_FILTERS_OPTION
+        );
+    }
+
+    public static GeneratorOptions of(Map<String, String> options) {
+        GeneratorOptions generatorOptions = new GeneratorOptions()
+                .setMetricsEnabled(Boolean.parseBoolean(options.get(METRICS_OPTION)))
+                .setMatchersEnabled(Boolean.parseBoolean(options.get(MATCHERS_OPTION)))
+                .setDescriptorsEnabled(Boolean.parseBoolean(options.get(DESCRIPTORS_OPTION)))
+                .setAggregatesEnabled(Boolean.parseBoolean(options.get(AGGREGATES_OPTION)))
+                .setIndexReportEnabled(Boolean.parseBoolean(options.get(INDEX_REPORT_OPTION)));
+
+
+        String unindexedFilters = options.get(UNINDEXED_FILTERS_OPTION);
+        if (unindexedFilters != null && !unindexedFilters.isBlank()) {
+            generatorOptions.setUnindexedFilters(UnindexedFilters.valueOf(unindexedFilters.toUpperCase(Locale.ROOT)));
+        }
+
+        return generatorOptions;
+    }
+
+    // <!> Handling of filters on columns not backed by an index
+    public enum UnindexedFilters {
+        GENERATE,
+        WARN,
+        SKIP
+    }
+}
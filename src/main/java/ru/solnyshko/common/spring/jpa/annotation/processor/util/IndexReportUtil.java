@@ -0,0 +1,74 @@
+package ru.solnyshko.common.spring.jpa.annotation.processor.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class IndexReportUtil {
+
+    private static final List<String> NON_SARGABLE_SUFFIXES = List.of("Like", "StartsWith", "EndsWith");
+
+    // <!> Report lists generated filter methods per field with a guess whether they can use an index.
+    // <!> Indexes are read from @Id, @Column(unique = true) & leading columns of @Table indexes and unique constraints.
+
+    public static String buildReport(
+            String specClassPath,
+            List<FieldMetadata> fieldsMetadata,
+            EntityIndexes entityIndexes,
+            Map<String, Set<String>> filterMethodsByField
+    ) {
+        StringBuilder report = new StringBuilder("# Index report for " + specClassPath + "\n");
+
+        for (FieldMetadata fieldMetadata : fieldsMetadata) {
+            Set<String> filterMethods = filterMethodsByField.getOrDefault(fieldMetadata.fieldName, Set.of());
+            if (filterMethods.isEmpty() || !EntityIndexes.isIndexCandidate(fieldMetadata)) {
+                continue;
+            }
+
+            boolean isIndexed = entityIndexes.isIndexed(fieldMetadata);
+
+            report.append(String.format("%s [%s, column %s]: %s%n",
+                    fieldMetadata.fieldName,
+                    fieldMetadata.fieldCategory,
+                    fieldMetadata.columnName,
+                    isIndexed ? "INDEXED" : "NOT INDEXED, likely full scan"
+            ));
+
+            List<String> nonSargableMethods = filterMethods.stream()
+                    .filter(IndexReportUtil::isNonSargable)
+                    .toList();
+
+            List<String> sargableMethods = filterMethods.stream()
+                    .filter(methodName -> !isNonSargable(methodName))
+                    .toList();
+
+            if (!sargableMethods.isEmpty()) {
+                report.append(String.format("  %s: %s%n",
+                        isIndexed ? "index-backed" : "full scan",
+                        String.join(", ", sargableMethods)
+                ));
+            }
+
+            if (!nonSargableMethods.isEmpty()) {
+                report.append(String.format("  full scan, column wrapped in lower(trim()): %s%n",
+                        String.join(", ", nonSargableMethods)
+                ));
+            }
+        }
+
+        return report.toString();
+    }
+
+    public static String buildWarning(FieldMetadata fieldMetadata) {
+        return String.format("" +
+                        "Filters generated for %s are not backed by an index on column %s " +
+                        "and will likely cause full scans",
+                fieldMetadata.fieldName,
+                fieldMetadata.columnName
+        );
+    }
+
+    private static boolean isNonSargable(String methodName) {
+        return NON_SARGABLE_SUFFIXES.stream().anyMatch(methodName::endsWith);
+    }
+}
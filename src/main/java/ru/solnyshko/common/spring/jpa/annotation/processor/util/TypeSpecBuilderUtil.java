@@ -3,12 +3,14 @@ package ru.solnyshko.common.spring.jpa.annotation.processor.util;
 import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.WildcardTypeName;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Fetch;
@@ -16,37 +18,90 @@ import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.annotation.SpecQueryShape;
+import ru.solnyshko.common.spring.jpa.support.ElementCollectionPredicates;
+import ru.solnyshko.common.spring.jpa.support.GroupwisePredicates;
+import ru.solnyshko.common.spring.jpa.support.OptionalSpecifications;
+import ru.solnyshko.common.spring.jpa.support.PrecompiledSpecificationExecutor;
+import ru.solnyshko.common.spring.jpa.support.QueryShapes;
+import ru.solnyshko.common.spring.jpa.support.SpecificationOrders;
+import ru.solnyshko.common.spring.jpa.support.SpecificationAggregateExecutor;
+import ru.solnyshko.common.spring.jpa.support.StringMatching;
+import ru.solnyshko.common.spring.jpa.support.descriptor.SpecificationDescriptor;
+import ru.solnyshko.common.spring.jpa.support.metrics.TaggedSpecification;
+import ru.solnyshko.common.spring.jpa.support.search.FullTextSearches;
 
 import javax.lang.model.element.Modifier;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class TypeSpecBuilderUtil {
 
-    public static void generateSpecMethods(
+    // <!> Returns names of generated Predicate methods grouped by entity field name.
+
+    public static Map<String, Set<String>> generateSpecMethods(
             TypeSpec.Builder typeSpecBuilder,
-            TypeName enityTypeName,
-            List<FieldMetadata> fieldsMetadata
+            ClassName enityTypeName,
+            List<FieldMetadata> fieldsMetadata,
+            EntityIndexes entityIndexes,
+            GeneratorOptions generatorOptions
     ) {
         SpecMethodsBuilder specMethodsBuilder = new SpecMethodsBuilder(
                 typeSpecBuilder,
-                enityTypeName
+                enityTypeName,
+                generatorOptions
         );
 
+        // <!> Rows of a foreign id group are ranked by every temporal field, by primary id if there is none,
+        // <!> ranking field is named in the method (latestByOrderIdOrderByCreatedAt)
+        String idAttributeName = findAttributeName(fieldsMetadata, FieldCategory.PRIMARY_ID);
+        List<FieldMetadata> rankingFieldsMetadata = fieldsMetadata.stream()
+                .filter(fieldMetadata -> fieldMetadata.fieldCategory == FieldCategory.TEMPORAL)
+                .toList();
+
+        if (rankingFieldsMetadata.isEmpty()) {
+            rankingFieldsMetadata = fieldsMetadata.stream()
+                    .filter(fieldMetadata -> fieldMetadata.fieldCategory == FieldCategory.PRIMARY_ID)
+                    .toList();
+        }
+
+        List<FieldMetadata> groupRankingFieldsMetadata = rankingFieldsMetadata;
+
         fieldsMetadata.forEach(fieldMetadata -> {
             ParameterSpec fieldParameter = ParameterSpec
                     .builder(fieldMetadata.fieldTypeName, fieldMetadata.fieldName)
                     .build();
 
+            specMethodsBuilder.currentFieldName = fieldMetadata.fieldName;
+            specMethodsBuilder.currentAttributePath = fieldMetadata.attributePath;
+
             switch (fieldMetadata.fieldCategory) {
                 case PRIMARY_ID, ENUM -> {
+                    // <!> Literals are rendered for enums only, ids are always bound as parameters
+                    boolean isLiteral = fieldMetadata.fieldCategory == FieldCategory.ENUM
+                            && fieldMetadata.queryShape == SpecQueryShape.Mode.LITERAL;
+
                     if (!fieldMetadata.isPrimitive) {
-                        specMethodsBuilder.addInCollectionMethods(fieldParameter);
+                        specMethodsBuilder.addInCollectionMethods(fieldParameter, isLiteral);
                     }
 
-                    specMethodsBuilder.addEqualMethods(fieldParameter);
-                    specMethodsBuilder.addInVarargsElementsMethods(fieldParameter);
+                    specMethodsBuilder.addEqualMethods(fieldParameter, isLiteral);
+                    specMethodsBuilder.addInVarargsElementsMethods(fieldParameter, isLiteral);
                 }
 
                 case FOREIGN_ID, CHARACTER -> {
@@ -67,6 +122,11 @@ public class TypeSpecBuilderUtil {
                     specMethodsBuilder.addIsMemberMethods(fieldParameter);
                     specMethodsBuilder.addJoinMethods(fieldParameter);
                     specMethodsBuilder.addFetchMethods(fieldParameter);
+
+                    // <!> Values of @Embeddable element collections can't be compared as a whole, no filters for them
+                    if (fieldMetadata.isElementCollection && !fieldMetadata.isEmbeddableElementCollection) {
+                        specMethodsBuilder.addContainsAnyMethods(fieldParameter);
+                    }
                 }
 
                 case STRING -> {
@@ -83,6 +143,13 @@ public class TypeSpecBuilderUtil {
                     specMethodsBuilder.addLikeMethods(fieldParameter);
                     specMethodsBuilder.addStartsWithMethods(fieldParameter);
                     specMethodsBuilder.addEndsWithMethods(fieldParameter);
+
+                    if (fieldMetadata.fullTextConfiguration != null) {
+                        specMethodsBuilder.addFullTextSearchMethods(
+                                fieldParameter,
+                                fieldMetadata.fullTextConfiguration
+                        );
+                    }
                 }
 
                 case NUMERIC -> {
@@ -100,7 +167,7 @@ public class TypeSpecBuilderUtil {
                     specMethodsBuilder.addGreaterThanOrEqualToMethods(fieldParameter, false);
                     specMethodsBuilder.addLessThanMethods(fieldParameter, false);
                     specMethodsBuilder.addLessThanOrEqualToMethods(fieldParameter, false);
-                    specMethodsBuilder.addBetweenMethods(fieldParameter);
+                    specMethodsBuilder.addBetweenMethods(fieldParameter, false);
                 }
 
                 case TEMPORAL -> {
@@ -113,30 +180,163 @@ public class TypeSpecBuilderUtil {
                     specMethodsBuilder.addGreaterThanOrEqualToMethods(fieldParameter, true);
                     specMethodsBuilder.addLessThanMethods(fieldParameter, true);
                     specMethodsBuilder.addLessThanOrEqualToMethods(fieldParameter, true);
-                    specMethodsBuilder.addBetweenMethods(fieldParameter);
+                    specMethodsBuilder.addBetweenMethods(fieldParameter, true);
+                    specMethodsBuilder.addTemporalWindowMethods(fieldParameter);
                 }
 
                 case BOOLEAN -> {
-                    specMethodsBuilder.addIsTrueMethods(fieldParameter);
+                    boolean isLiteral = fieldMetadata.queryShape != SpecQueryShape.Mode.PARAMETER;
+                    specMethodsBuilder.addIsTrueMethods(fieldParameter, isLiteral);
                 }
 
                 case OBJECT -> {
                     specMethodsBuilder.addIsNullMethods(fieldParameter);
                 }
             }
+
+            // <!> Sorting by a column without index leading on it means a full sort of every filtered row
+            boolean isSortable = switch (fieldMetadata.fieldCategory) {
+                case PRIMARY_ID, STRING, NUMERIC, TEMPORAL -> entityIndexes.isIndexed(fieldMetadata);
+                default -> false;
+            };
+
+            if (isSortable) {
+                specMethodsBuilder.addSortMethods(fieldParameter, idAttributeName);
+            }
+
+            if (fieldMetadata.fieldCategory == FieldCategory.FOREIGN_ID && idAttributeName != null) {
+                groupRankingFieldsMetadata.forEach(rankingFieldMetadata -> specMethodsBuilder.addGroupwiseMethods(
+                        fieldParameter,
+                        rankingFieldMetadata.fieldName,
+                        String.join(".", rankingFieldMetadata.attributePath),
+                        idAttributeName
+                ));
+            }
+
+            if (generatorOptions.isAggregatesEnabled) {
+                switch (fieldMetadata.fieldCategory) {
+                    case NUMERIC -> specMethodsBuilder.addSummaryMethod(fieldParameter);
+                    case ENUM, FOREIGN_ID -> specMethodsBuilder.addCountByMethod(fieldParameter);
+
+                    // <!> Times of day have no day or month to bucket by, they get no countBy method
+                    case TEMPORAL -> {
+                        if (!fieldMetadata.fieldTypeName.equals(TypeName.get(LocalTime.class))) {
+                            specMethodsBuilder.addTemporalCountByMethod(fieldParameter);
+                        }
+                    }
+                }
+            }
+        });
+
+        if (generatorOptions.isMatchersEnabled) {
+            generateMatcherMethods(
+                    typeSpecBuilder,
+                    enityTypeName,
+                    fieldsMetadata
+            );
+        }
+
+        return specMethodsBuilder.filterMethodsByField;
+    }
+
+    // <!> Matchers are in-memory java.util.function.Predicate twins of spec methods,
+    // <!> they rely on JavaBeans getters being present on the entity.
+
+    private static void generateMatcherMethods(
+            TypeSpec.Builder typeSpecBuilder,
+            ClassName entityTypeName,
+            List<FieldMetadata> fieldsMetadata
+    ) {
+        MatcherMethodsBuilder matcherMethodsBuilder = new MatcherMethodsBuilder(entityTypeName);
+
+        fieldsMetadata.forEach(fieldMetadata -> {
+            // <!> Embedded value object fields are not matched in memory, getter chains may hold nulls
+            if (fieldMetadata.attributePath.size() > 1) {
+                return;
+            }
+
+            ParameterSpec fieldParameter = ParameterSpec
+                    .builder(fieldMetadata.fieldTypeName, fieldMetadata.fieldName)
+                    .build();
+
+            boolean isWithNullChecks = fieldMetadata.fieldCategory == FieldCategory.OBJECT
+                    || fieldMetadata.isNullable && fieldMetadata.fieldCategory != FieldCategory.BOOLEAN;
+
+            if (isWithNullChecks) {
+                matcherMethodsBuilder.addIsNullMethods(fieldMetadata, fieldParameter);
+            }
+
+            switch (fieldMetadata.fieldCategory) {
+                case PRIMARY_ID, ENUM, FOREIGN_ID, CHARACTER, STRING, NUMERIC -> {
+                    if (!fieldMetadata.isPrimitive) {
+                        matcherMethodsBuilder.addInCollectionMethods(fieldMetadata, fieldParameter);
+                    }
+
+                    matcherMethodsBuilder.addEqualMethods(fieldMetadata, fieldParameter);
+                    matcherMethodsBuilder.addInVarargsElementsMethods(fieldMetadata, fieldParameter);
+                }
+
+                case TEMPORAL -> {
+                    matcherMethodsBuilder.addEqualMethods(fieldMetadata, fieldParameter);
+                }
+
+                case COLLECTION -> {
+                    matcherMethodsBuilder.addCollectionMethods(fieldMetadata, fieldParameter);
+                }
+
+                case BOOLEAN -> {
+                    matcherMethodsBuilder.addIsTrueMethods(fieldMetadata, fieldParameter);
+                }
+            }
+
+            switch (fieldMetadata.fieldCategory) {
+                case STRING -> {
+                    matcherMethodsBuilder.addStringMatchingMethods(fieldMetadata, fieldParameter);
+                }
+
+                case NUMERIC -> {
+                    matcherMethodsBuilder.addComparisonMethods(fieldMetadata, fieldParameter);
+                    matcherMethodsBuilder.addBetweenMethods(fieldMetadata, fieldParameter);
+                }
+
+                case TEMPORAL -> {
+                    matcherMethodsBuilder.addComparisonMethods(fieldMetadata, fieldParameter);
+                    matcherMethodsBuilder.addBetweenMethods(fieldMetadata, fieldParameter);
+                    matcherMethodsBuilder.addTemporalWindowMethods(fieldMetadata, fieldParameter);
+                }
+            }
         });
+
+        typeSpecBuilder.addType(matcherMethodsBuilder.build());
+    }
+
+    // UTILITY
+
+    private static String findAttributeName(List<FieldMetadata> fieldsMetadata, FieldCategory fieldCategory) {
+        return fieldsMetadata.stream()
+                .filter(fieldMetadata -> fieldMetadata.fieldCategory == fieldCategory)
+                .map(fieldMetadata -> String.join(".", fieldMetadata.attributePath))
+                .findFirst()
+                .orElse(null);
     }
 
     // SPEC METHODS BUILDER
 
     private static class SpecMethodsBuilder {
         private final TypeSpec.Builder typeSpecBuilder;
-        private final TypeName entityTypeName;
+        private final ClassName entityTypeName;
+        private final GeneratorOptions generatorOptions;
+        private final Map<String, String> jpqlFragments = new HashMap<>();
+        private final Map<String, Set<String>> filterMethodsByField = new LinkedHashMap<>();
+        private String currentFieldName;
+        private final Set<String> customIfPresentMethodNames = new HashSet<>();
+        private List<String> currentAttributePath;
         private final ParameterizedTypeName parameterizedSpecification;
         private final ParameterizedTypeName parameterizedFrom;
 
         private static final ParameterSpec criteriaBuilderParameterSpec;
         private static final ParameterSpec criteriaQueryParameterSpec;
+        private static final String DESCRIPTOR_ARGUMENTS_NAME = "descriptorArguments";
 
         static {
             criteriaBuilderParameterSpec = ParameterSpec
@@ -153,9 +353,10 @@ public class TypeSpecBuilderUtil {
                     .build();
         }
 
-        private SpecMethodsBuilder(TypeSpec.Builder builder, TypeName typeName) {
+        private SpecMethodsBuilder(TypeSpec.Builder builder, ClassName typeName, GeneratorOptions options) {
             typeSpecBuilder = builder;
             entityTypeName = typeName;
+            generatorOptions = options;
             parameterizedSpecification = ParameterizedTypeName.get(
                     ClassName.get(Specification.class),
                     entityTypeName
@@ -205,25 +406,130 @@ public class TypeSpecBuilderUtil {
             return "not" + getCapitalizedFieldName(fieldName);
         }
 
-        private static String buildSpecificationStatement(
+        private static String buildSpecificationLambda(
                 String predicateMethodName,
                 ParameterSpec[] parameterSpecs,
                 ParameterSpec... criteriaParameterSpecs
         ) {
-            StringBuilder specificationStatement = new StringBuilder(
-                    String.format("return (root, query, cb) -> %s(root", predicateMethodName)
+            StringBuilder specificationLambda = new StringBuilder(
+                    String.format("(root, query, cb) -> %s(root", predicateMethodName)
             );
 
             for (ParameterSpec parameterSpec : criteriaParameterSpecs) {
-                specificationStatement.append(", ").append(parameterSpec.name);
+                specificationLambda.append(", ").append(parameterSpec.name);
             }
 
             for (ParameterSpec parameterSpec : parameterSpecs) {
-                specificationStatement.append(", ").append(parameterSpec.name);
+                specificationLambda.append(", ").append(parameterSpec.name);
+            }
+
+            specificationLambda.append(")");
+            return specificationLambda.toString();
+        }
+
+        // <!> Descriptor delegate reads copied arguments, never the caller's collection or array:
+        // <!> descriptorArguments -> (root, query, cb) -> fieldEq(root, cb, SpecificationDescriptor.<T>argument(descriptorArguments, 0))
+
+        private CodeBlock buildDescriptorDelegateFactory(
+                String predicateMethodName,
+                ParameterSpec[] parameterSpecs,
+                ParameterSpec... criteriaParameterSpecs
+        ) {
+            CodeBlock.Builder factory = CodeBlock.builder()
+                    .add("$L -> (root, query, cb) -> $L(root", DESCRIPTOR_ARGUMENTS_NAME, predicateMethodName);
+
+            for (ParameterSpec parameterSpec : criteriaParameterSpecs) {
+                factory.add(", $L", parameterSpec.name);
+            }
+
+            for (int i = 0; i < parameterSpecs.length; i++) {
+                factory.add(
+                        ", $T.<$T>argument($L, $L)",
+                        SpecificationDescriptor.class,
+                        parameterSpecs[i].type.box(),
+                        DESCRIPTOR_ARGUMENTS_NAME,
+                        i
+                );
+            }
+
+            return factory.add(")").build();
+        }
+
+        private CodeBlock buildSpecificationStatement(
+                String genericMethodName,
+                String specificationLambda,
+                ParameterSpec[] parameterSpecs,
+                ParameterSpec... criteriaParameterSpecs
+        ) {
+            String specificationName = entityTypeName.simpleName() + "." + genericMethodName;
+
+            if (generatorOptions.isDescriptorsEnabled) {
+                // <!> Arguments are wrapped explicitly, so that varargs arrays stay a single argument
+                CodeBlock arguments = Arrays.stream(parameterSpecs)
+                        .map(parameterSpec -> CodeBlock.of("$N", parameterSpec))
+                        .collect(CodeBlock.joining(", ", "new Object[]{", "}"));
+
+                CodeBlock delegateFactory = buildDescriptorDelegateFactory(
+                        genericMethodName,
+                        parameterSpecs,
+                        criteriaParameterSpecs
+                );
+
+                String jpqlFragment = jpqlFragments.get(genericMethodName);
+                if (jpqlFragment != null) {
+                    return CodeBlock.of(
+                            "return $T.of($S, $L, $S, $L)",
+                            SpecificationDescriptor.class,
+                            specificationName,
+                            arguments,
+                            jpqlFragment,
+                            delegateFactory
+                    );
+                }
+
+                return CodeBlock.of(
+                        "return $T.of($S, $L, $L)",
+                        SpecificationDescriptor.class,
+                        specificationName,
+                        arguments,
+                        delegateFactory
+                );
+            }
+
+            if (generatorOptions.isMetricsEnabled) {
+                // <!> Tagged with entity & method name, so that executed filter combinations can be told apart
+                return CodeBlock.of("return $T.tag($S, $L)", TaggedSpecification.class, specificationName, specificationLambda);
+            }
+
+            return CodeBlock.of("return $L", specificationLambda);
+        }
+
+        // <!> JPQL fragments are formatted with the attribute path of current field,
+        // <!> descriptors of such filters can skip Criteria building (see PrecompiledSpecificationExecutor).
+
+        private void registerJpqlFragment(
+                String genericMethodName,
+                ParameterSpec fieldParameterSpec,
+                String fragmentTemplate
+        ) {
+            String attributePath = PrecompiledSpecificationExecutor.ENTITY_ALIAS + "." + getAttributeName();
+            jpqlFragments.put(genericMethodName, String.format(fragmentTemplate, attributePath));
+        }
+
+        // <!> Embedded value object fields resolve to root.get("address").get("city"), no join is needed
+
+        private String getAttributeExpression() {
+            StringBuilder attributeExpression = new StringBuilder("root");
+
+            for (String attributeName : currentAttributePath) {
+                attributeExpression.append(".get(\"").append(attributeName).append("\")");
             }
 
-            specificationStatement.append(")");
-            return specificationStatement.toString();
+            return attributeExpression.toString();
+        }
+
+        private String getAttributeName() {
+            return String.join(".", currentAttributePath);
         }
 
         private static CodeBlock buildJoinStatement(String field, JoinType joinType) {
@@ -253,10 +559,12 @@ public class TypeSpecBuilderUtil {
         private void addIsNullMethods(ParameterSpec fieldParameterSpec) {
             String genericMethodName = fieldParameterSpec.name + "IsNull";
             String predicateStatement = String.format("" +
-                            "return cb.isNull(root.get(\"%s\"))",
-                    fieldParameterSpec.name
+                            "return cb.isNull(%s)",
+                    getAttributeExpression()
             );
 
+            registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s is null");
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement
@@ -265,6 +573,8 @@ public class TypeSpecBuilderUtil {
             String genericNegatedMethodName = fieldParameterSpec.name + "IsNotNull";
             String predicateNegatedStatement = predicateStatement + ".not()";
 
+            registerJpqlFragment(genericNegatedMethodName, fieldParameterSpec, "%s is not null");
+
             addPredicateWithSpecificationFilterMethods(
                     genericNegatedMethodName,
                     predicateNegatedStatement
@@ -272,13 +582,22 @@ public class TypeSpecBuilderUtil {
         }
 
         private void addEqualMethods(ParameterSpec fieldParameterSpec) {
+            addEqualMethods(fieldParameterSpec, false);
+        }
+
+        private void addEqualMethods(ParameterSpec fieldParameterSpec, boolean isLiteral) {
             String genericMethodName = fieldParameterSpec.name + "Eq";
+            String valueTemplate = isLiteral ? "cb.literal(%s)" : "%s";
             String predicateStatement = String.format("" +
-                            "return cb.equal(root.get(\"%s\"), %s)",
-                    fieldParameterSpec.name,
+                            "return cb.equal(%s, " + valueTemplate + ")",
+                    getAttributeExpression(),
                     fieldParameterSpec.name
             );
 
+            if (!isLiteral) {
+                registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s = ?");
+            }
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement,
@@ -288,6 +607,10 @@ public class TypeSpecBuilderUtil {
             String genericNegatedMethodName = fieldParameterSpec.name + "NotEq";
             String predicateNegatedStatement = predicateStatement + ".not()";
 
+            if (!isLiteral) {
+                registerJpqlFragment(genericNegatedMethodName, fieldParameterSpec, "%s <> ?");
+            }
+
             addPredicateWithSpecificationFilterMethods(
                     genericNegatedMethodName,
                     predicateNegatedStatement,
@@ -296,6 +619,10 @@ public class TypeSpecBuilderUtil {
         }
 
         private void addInVarargsElementsMethods(ParameterSpec fieldParameterSpec) {
+            addInVarargsElementsMethods(fieldParameterSpec, false);
+        }
+
+        private void addInVarargsElementsMethods(ParameterSpec fieldParameterSpec, boolean isLiteral) {
             String genericMethodName = fieldParameterSpec.name + "In";
             TypeName arrayTypeName = ArrayTypeName.of(fieldParameterSpec.type);
 
@@ -303,12 +630,20 @@ public class TypeSpecBuilderUtil {
                     .builder(arrayTypeName, "elements")
                     .build();
 
-            String predicateStatement = String.format("" +
-                            "return root.get(\"%s\").in((Object)%s)",
-                    fieldParameterSpec.name,
-                    collectionParameterSpec.name
+            // <!> Varargs are boxed & padded, so that array length doesn't change query shape.
+            CodeBlock predicateStatement = CodeBlock.of(
+                    isLiteral
+                            ? "return $L.in($T.literals(cb, $N))"
+                            : "return $L.in($T.paddedArray($N))",
+                    getAttributeExpression(),
+                    QueryShapes.class,
+                    collectionParameterSpec
             );
 
+            if (!isLiteral) {
+                registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s in (?)");
+            }
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement,
@@ -316,7 +651,11 @@ public class TypeSpecBuilderUtil {
             );
 
             String genericNegatedMethodName = fieldParameterSpec.name + "NotIn";
-            String predicateNegatedStatement = predicateStatement + ".not()";
+            CodeBlock predicateNegatedStatement = CodeBlock.of("$L.not()", predicateStatement);
+
+            if (!isLiteral) {
+                registerJpqlFragment(genericNegatedMethodName, fieldParameterSpec, "%s not in (?)");
+            }
 
             addPredicateWithSpecificationFilterMethods(
                     genericNegatedMethodName,
@@ -326,6 +665,10 @@ public class TypeSpecBuilderUtil {
         }
 
         private void addInCollectionMethods(ParameterSpec fieldParameterSpec) {
+            addInCollectionMethods(fieldParameterSpec, false);
+        }
+
+        private void addInCollectionMethods(ParameterSpec fieldParameterSpec, boolean isLiteral) {
             String genericMethodName = fieldParameterSpec.name + "In";
 
             ParameterizedTypeName collectionTypeName = ParameterizedTypeName.get(
@@ -337,12 +680,19 @@ public class TypeSpecBuilderUtil {
                     .builder(collectionTypeName, "collection")
                     .build();
 
-            String predicateStatement = String.format("" +
-                            "return root.get(\"%s\").in(%s)",
-                    fieldParameterSpec.name,
-                    collectionParameterSpec.name
+            CodeBlock predicateStatement = CodeBlock.of(
+                    isLiteral
+                            ? "return $L.in($T.literals(cb, $N))"
+                            : "return $L.in($T.padded($N))",
+                    getAttributeExpression(),
+                    QueryShapes.class,
+                    collectionParameterSpec
             );
 
+            if (!isLiteral) {
+                registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s in (?)");
+            }
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement,
@@ -350,7 +700,11 @@ public class TypeSpecBuilderUtil {
             );
 
             String genericNegatedMethodName = fieldParameterSpec.name + "NotIn";
-            String predicateNegatedStatement = predicateStatement + ".not()";
+            CodeBlock predicateNegatedStatement = CodeBlock.of("$L.not()", predicateStatement);
+
+            if (!isLiteral) {
+                registerJpqlFragment(genericNegatedMethodName, fieldParameterSpec, "%s not in (?)");
+            }
 
             addPredicateWithSpecificationFilterMethods(
                     genericNegatedMethodName,
@@ -362,9 +716,9 @@ public class TypeSpecBuilderUtil {
         private void addLikeMethods(ParameterSpec fieldParameterSpec) {
             String genericMethodName = fieldParameterSpec.name + "Like";
             String predicateStatement = String.format("" +
-                            "return cb.like(cb.lower(cb.trim(root.get(\"%s\"))), " +
+                            "return cb.like(cb.lower(cb.trim(%s)), " +
                             "\"%%\" + %s.toLowerCase().trim() + \"%%\")",
-                    fieldParameterSpec.name,
+                    getAttributeExpression(),
                     fieldParameterSpec.name
             );
 
@@ -387,9 +741,9 @@ public class TypeSpecBuilderUtil {
         private void addEndsWithMethods(ParameterSpec fieldParameterSpec) {
             String genericMethodName = fieldParameterSpec.name + "EndsWith";
             String predicateStatement = String.format("" +
-                            "return cb.like(cb.lower(cb.trim(root.get(\"%s\"))), " +
+                            "return cb.like(cb.lower(cb.trim(%s)), " +
                             "\"%%\" + %s.toLowerCase().trim())",
-                    fieldParameterSpec.name,
+                    getAttributeExpression(),
                     fieldParameterSpec.name
             );
 
@@ -403,9 +757,9 @@ public class TypeSpecBuilderUtil {
         private void addStartsWithMethods(ParameterSpec fieldParameterSpec) {
             String genericMethodName = fieldParameterSpec.name + "StartsWith";
             String predicateStatement = String.format("" +
-                            "return cb.like(cb.lower(cb.trim(root.get(\"%s\"))), " +
+                            "return cb.like(cb.lower(cb.trim(%s)), " +
                             "%s.toLowerCase().trim() + \"%%\")",
-                    fieldParameterSpec.name,
+                    getAttributeExpression(),
                     fieldParameterSpec.name
             );
 
@@ -422,11 +776,13 @@ public class TypeSpecBuilderUtil {
                     : fieldParameterSpec.name + "GreaterThan";
 
             String predicateStatement = String.format("" +
-                            "return cb.greaterThan(root.get(\"%s\"), %s)",
-                    fieldParameterSpec.name,
+                            "return cb.greaterThan(%s, %s)",
+                    getAttributeExpression(),
                     fieldParameterSpec.name
             );
 
+            registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s > ?");
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement,
@@ -440,11 +796,13 @@ public class TypeSpecBuilderUtil {
                     : fieldParameterSpec.name + "GreaterThanOrEqualTo";
 
             String predicateStatement = String.format("" +
-                            "return cb.greaterThanOrEqualTo(root.get(\"%s\"), %s)",
-                    fieldParameterSpec.name,
+                            "return cb.greaterThanOrEqualTo(%s, %s)",
+                    getAttributeExpression(),
                     fieldParameterSpec.name
             );
 
+            registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s >= ?");
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement,
@@ -458,11 +816,13 @@ public class TypeSpecBuilderUtil {
                     : fieldParameterSpec.name + "LessThan";
 
             String predicateStatement = String.format("" +
-                            "return cb.lessThan(root.get(\"%s\"), %s)",
-                    fieldParameterSpec.name,
+                            "return cb.lessThan(%s, %s)",
+                    getAttributeExpression(),
                     fieldParameterSpec.name
             );
 
+            registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s < ?");
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement,
@@ -476,11 +836,13 @@ public class TypeSpecBuilderUtil {
                     : fieldParameterSpec.name + "LessThanOrEqualTo";
 
             String predicateStatement = String.format("" +
-                            "return cb.lessThanOrEqualTo(root.get(\"%s\"), %s)",
-                    fieldParameterSpec.name,
+                            "return cb.lessThanOrEqualTo(%s, %s)",
+                    getAttributeExpression(),
                     fieldParameterSpec.name
             );
 
+            registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s <= ?");
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement,
@@ -488,7 +850,7 @@ public class TypeSpecBuilderUtil {
             );
         }
 
-        private void addBetweenMethods(ParameterSpec fieldParameterSpec) {
+        private void addBetweenMethods(ParameterSpec fieldParameterSpec, boolean isTemporalField) {
             String genericMethodName = fieldParameterSpec.name + "Between";
             String fromParameterName = fieldParameterSpec.name + "From";
             String toParameterName = fieldParameterSpec.name + "To";
@@ -502,12 +864,16 @@ public class TypeSpecBuilderUtil {
                     .build();
 
             String predicateStatement = String.format("" +
-                            "return cb.between(root.get(\"%s\"), %s, %s)",
-                    fieldParameterSpec.name,
+                            "return cb.between(%s, %s, %s)",
+                    getAttributeExpression(),
                     fromParameterSpec.name,
                     toParameterSpec.name
             );
 
+            registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s between ? and ?");
+
+            customIfPresentMethodNames.add(genericMethodName);
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement,
@@ -515,9 +881,40 @@ public class TypeSpecBuilderUtil {
                     toParameterSpec
             );
 
+            // <!> Between with one absent bound is an open range, e.g. amountBetweenIfPresent(null, 100) -> amount <= 100
+            String lowerBoundMethodName = fieldParameterSpec.name + (isTemporalField ? "AfterOrAt" : "GreaterThanOrEqualTo");
+            String upperBoundMethodName = fieldParameterSpec.name + (isTemporalField ? "BeforeOrAt" : "LessThanOrEqualTo");
+
+            CodeBlock betweenIfPresentCode = CodeBlock.builder()
+                    .beginControlFlow(
+                            "if ($T.isAbsent($N) && $T.isAbsent($N))",
+                            OptionalSpecifications.class,
+                            fromParameterSpec,
+                            OptionalSpecifications.class,
+                            toParameterSpec
+                    )
+                    .addStatement("return $T.none()", OptionalSpecifications.class)
+                    .endControlFlow()
+                    .beginControlFlow("if ($T.isAbsent($N))", OptionalSpecifications.class, toParameterSpec)
+                    .addStatement("return $L($N)", lowerBoundMethodName, fromParameterSpec)
+                    .endControlFlow()
+                    .beginControlFlow("if ($T.isAbsent($N))", OptionalSpecifications.class, fromParameterSpec)
+                    .addStatement("return $L($N)", upperBoundMethodName, toParameterSpec)
+                    .endControlFlow()
+                    .addStatement("return $L($N, $N)", genericMethodName, fromParameterSpec, toParameterSpec)
+                    .build();
+
+            addIfPresentMethod(
+                    genericMethodName,
+                    betweenIfPresentCode,
+                    new ParameterSpec[]{fromParameterSpec, toParameterSpec}
+            );
+
             String genericNegatedMethodName = fieldParameterSpec.name + "NotBetween";
             String predicateNegatedStatement = predicateStatement + ".not()";
 
+            registerJpqlFragment(genericNegatedMethodName, fieldParameterSpec, "%s not between ? and ?");
+
             addPredicateWithSpecificationFilterMethods(
                     genericNegatedMethodName,
                     predicateNegatedStatement,
@@ -526,14 +923,19 @@ public class TypeSpecBuilderUtil {
             );
         }
 
-        private void addIsTrueMethods(ParameterSpec fieldParameterSpec) {
+        private void addIsTrueMethods(ParameterSpec fieldParameterSpec, boolean isLiteral) {
             String genericMethodName = fieldParameterSpec.name;
+            String statementTemplate = isLiteral
+                    ? "return cb.isTrue(%s)"
+                    : "return cb.equal(%s, Boolean.TRUE)";
 
-            String predicateStatement = String.format("" +
-                            "return cb.isTrue(root.get(\"%s\"))",
-                    fieldParameterSpec.name
+            String predicateStatement = String.format(
+                    statementTemplate,
+                    getAttributeExpression()
             );
 
+            registerJpqlFragment(genericMethodName, fieldParameterSpec, "%s = true");
+
             addPredicateWithSpecificationFilterMethods(
                     genericMethodName,
                     predicateStatement
@@ -542,12 +944,152 @@ public class TypeSpecBuilderUtil {
             String genericNegatedMethodName = getNegatedBooleanName(fieldParameterSpec.name);
             String predicateNegatedStatement = predicateStatement + ".not()";
 
+            registerJpqlFragment(genericNegatedMethodName, fieldParameterSpec, "%s <> true");
+
             addPredicateWithSpecificationFilterMethods(
                     genericNegatedMethodName,
                     predicateNegatedStatement
             );
         }
 
+        // <!> Every temporal window compiles to a half-open "column >= ? and column < ?" range,
+        // <!> so that indexes & partition pruning keep working unlike function('date', column) = ? filters.
+
+        private void addTemporalWindowMethods(ParameterSpec fieldParameterSpec) {
+            boolean isDateField = fieldParameterSpec.type.equals(TypeName.get(LocalDate.class));
+            boolean isDateTimeField = fieldParameterSpec.type.equals(TypeName.get(LocalDateTime.class));
+
+            String inRangeMethodName = fieldParameterSpec.name + "InRange";
+
+            ParameterSpec fromParameterSpec = ParameterSpec
+                    .builder(fieldParameterSpec.type, fieldParameterSpec.name + "From")
+                    .build();
+
+            ParameterSpec toExclusiveParameterSpec = ParameterSpec
+                    .builder(fieldParameterSpec.type, fieldParameterSpec.name + "ToExclusive")
+                    .build();
+
+            CodeBlock inRangeStatement = CodeBlock.of("" +
+                            "return cb.and(cb.greaterThanOrEqualTo($L, $N), " +
+                            "cb.lessThan($L, $N))",
+                    getAttributeExpression(),
+                    fromParameterSpec,
+                    getAttributeExpression(),
+                    toExclusiveParameterSpec
+            );
+
+            registerJpqlFragment(inRangeMethodName, fieldParameterSpec, "%1$s >= ? and %1$s < ?");
+
+            addPredicateWithSpecificationFilterMethods(
+                    inRangeMethodName,
+                    inRangeStatement,
+                    fromParameterSpec,
+                    toExclusiveParameterSpec
+            );
+
+            if (!isDateField && !isDateTimeField) {
+                return;
+            }
+
+            String startOfDay = isDateTimeField ? ".atStartOfDay()" : "";
+
+            ParameterSpec dayParameterSpec = ParameterSpec
+                    .builder(LocalDate.class, "day")
+                    .build();
+
+            CodeBlock onDayStatement = CodeBlock.of(
+                    "return $N(root, cb, $N$L, $N.plusDays(1)$L)",
+                    inRangeMethodName,
+                    dayParameterSpec,
+                    startOfDay,
+                    dayParameterSpec,
+                    startOfDay
+            );
+
+            addPredicateWithSpecificationFilterMethods(
+                    fieldParameterSpec.name + "OnDay",
+                    onDayStatement,
+                    dayParameterSpec
+            );
+
+            ParameterSpec monthParameterSpec = ParameterSpec
+                    .builder(YearMonth.class, "month")
+                    .build();
+
+            CodeBlock inMonthStatement = CodeBlock.of(
+                    "return $N(root, cb, $N.atDay(1)$L, $N.plusMonths(1).atDay(1)$L)",
+                    inRangeMethodName,
+                    monthParameterSpec,
+                    startOfDay,
+                    monthParameterSpec,
+                    startOfDay
+            );
+
+            addPredicateWithSpecificationFilterMethods(
+                    fieldParameterSpec.name + "InMonth",
+                    inMonthStatement,
+                    monthParameterSpec
+            );
+
+            addWithinLastMethods(fieldParameterSpec, inRangeMethodName, isDateTimeField);
+        }
+
+        // <!> Rolling windows end now (date windows include today) and both bounds come from one now() call.
+        // <!> Specification resolves bounds when it is created and delegates to InRange, so that descriptor
+        // <!> arguments hold the window it was built for and cached results never outlive that window.
+
+        private void addWithinLastMethods(
+                ParameterSpec fieldParameterSpec,
+                String inRangeMethodName,
+                boolean isDateTimeField
+        ) {
+            String withinLastMethodName = fieldParameterSpec.name + "WithinLast";
+
+            ParameterSpec windowParameterSpec = isDateTimeField
+                    ? ParameterSpec.builder(Duration.class, "duration").build()
+                    : ParameterSpec.builder(Period.class, "period").build();
+
+            CodeBlock windowBounds = isDateTimeField
+                    ? CodeBlock.builder()
+                    .addStatement("$T upperBound = $T.now()", LocalDateTime.class, LocalDateTime.class)
+                    .addStatement("$T lowerBound = upperBound.minus($N)", LocalDateTime.class, windowParameterSpec)
+                    .build()
+                    : CodeBlock.builder()
+                    .addStatement("$T upperBound = $T.now().plusDays(1)", LocalDate.class, LocalDate.class)
+                    .addStatement("$T lowerBound = upperBound.minusDays(1).minus($N)", LocalDate.class, windowParameterSpec)
+                    .build();
+
+            filterMethodsByField
+                    .computeIfAbsent(currentFieldName, fieldName -> new LinkedHashSet<>())
+                    .add(withinLastMethodName);
+
+            typeSpecBuilder.addMethod(MethodSpec
+                    .methodBuilder(withinLastMethodName)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(Predicate.class)
+                    .addParameter(parameterizedFrom, "root")
+                    .addParameter(criteriaBuilderParameterSpec)
+                    .addParameter(windowParameterSpec)
+                    .addCode(windowBounds)
+                    .addStatement("return $N(root, cb, lowerBound, upperBound)", inRangeMethodName)
+                    .build());
+
+            typeSpecBuilder.addMethod(MethodSpec
+                    .methodBuilder(withinLastMethodName)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(parameterizedSpecification)
+                    .addParameter(windowParameterSpec)
+                    .addCode(windowBounds)
+                    .addStatement("return $N(lowerBound, upperBound)", inRangeMethodName)
+                    .build());
+
+            addIfPresentMethod(
+                    withinLastMethodName,
+                    buildIfPresentCode(withinLastMethodName, windowParameterSpec),
+                    new ParameterSpec[]{windowParameterSpec}
+            );
+        }
+
         private void addIsEmptyMethods(ParameterSpec fieldParameterSpec) {
             String genericMethodName = fieldParameterSpec.name + "IsEmpty";
             String predicateStatement = String.format("" +
@@ -600,6 +1142,46 @@ public class TypeSpecBuilderUtil {
             );
         }
 
+        // <!> Element collection filters render as exists (select 1 from <correlated root> join root.tags v where v in (...)),
+        // <!> so matching rows are neither multiplied by a join nor need distinct.
+
+        private void addContainsAnyMethods(ParameterSpec fieldParameterSpec) {
+            ParameterizedTypeName valuesTypeName = ParameterizedTypeName.get(
+                    ClassName.get(Collection.class),
+                    getInnerClassTypeName(fieldParameterSpec)
+            );
+
+            ParameterSpec valuesParameterSpec = ParameterSpec
+                    .builder(valuesTypeName, "values")
+                    .build();
+
+            CodeBlock containsAnyStatement = CodeBlock.of(
+                    "return $T.containsAny(root, query, cb, $S, $T.padded($N))",
+                    ElementCollectionPredicates.class,
+                    fieldParameterSpec.name,
+                    QueryShapes.class,
+                    valuesParameterSpec
+            );
+
+            addPredicateWithSpecificationToTypeSpec(
+                    fieldParameterSpec.name + "ContainsAny",
+                    containsAnyStatement,
+                    new ParameterSpec[]{valuesParameterSpec},
+                    criteriaQueryParameterSpec,
+                    criteriaBuilderParameterSpec
+            );
+
+            CodeBlock containsNoneStatement = CodeBlock.of("$L.not()", containsAnyStatement);
+
+            addPredicateWithSpecificationToTypeSpec(
+                    fieldParameterSpec.name + "ContainsNone",
+                    containsNoneStatement,
+                    new ParameterSpec[]{valuesParameterSpec},
+                    criteriaQueryParameterSpec,
+                    criteriaBuilderParameterSpec
+            );
+        }
+
         private void addJoinMethods(ParameterSpec fieldParameterSpec) {
             String capitalizedFieldName = getCapitalizedFieldName(fieldParameterSpec.name);
             ClassName innerClassTypeName = getInnerClassTypeName(fieldParameterSpec);
@@ -709,24 +1291,274 @@ public class TypeSpecBuilderUtil {
             );
         }
 
-        // ADD PREDICATE & SPECIFICATION PAIR TO SPEC BUILDER
+        // FULL-TEXT SEARCH
+
+        private void addFullTextSearchMethods(ParameterSpec fieldParameterSpec, String configuration) {
+            CodeBlock matchesStatement = CodeBlock.of(
+                    "return $T.matches(cb, $L, $S, $N)",
+                    FullTextSearches.class,
+                    getAttributeExpression(),
+                    configuration,
+                    fieldParameterSpec
+            );
+
+            addPredicateWithSpecificationFilterMethods(
+                    fieldParameterSpec.name + "Matches",
+                    matchesStatement,
+                    fieldParameterSpec
+            );
+
+            CodeBlock matchesOrderedByRankStatement = CodeBlock.of(
+                    "return $T.matchesOrderedByRank(query, cb, $L, $S, $N)",
+                    FullTextSearches.class,
+                    getAttributeExpression(),
+                    configuration,
+                    fieldParameterSpec
+            );
 
-        private void addPredicateWithSpecificationFilterMethods(
-                String genericMethodName,
-                String predicateStatement,
-                ParameterSpec... parameterSpecs
-        ) {
             addPredicateWithSpecificationToTypeSpec(
-                    genericMethodName,
-                    CodeBlock.of(predicateStatement),
-                    parameterSpecs,
+                    fieldParameterSpec.name + "MatchesOrderedByRank",
+                    matchesOrderedByRankStatement,
+                    new ParameterSpec[]{fieldParameterSpec},
+                    criteriaQueryParameterSpec,
                     criteriaBuilderParameterSpec
             );
         }
 
-        private void addPredicateWithSpecificationQueryMethods(
-                String genericMethodName,
-                CodeBlock predicateStatement,
+        // SORTING
+
+        private void addSortMethods(ParameterSpec fieldParameterSpec, String idAttributeName) {
+            String attributeName = getAttributeName();
+            String constantName = "SORT_BY_" + fieldParameterSpec.name
+                    .replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+                    .toUpperCase();
+
+            boolean isWithTiebreaker = idAttributeName != null && !idAttributeName.equals(attributeName);
+
+            // <!> Sort constants are immutable, built once instead of parsing Sort.by("...") per request.
+            // <!> Nulls go last ascending & first descending, like in orderBy* specifications.
+            typeSpecBuilder.addField(buildSortField(
+                    constantName + "_ASC",
+                    CodeBlock.of("$T.asc($S).nullsLast()", Sort.Order.class, attributeName),
+                    isWithTiebreaker ? CodeBlock.of("$T.asc($S)", Sort.Order.class, idAttributeName) : null
+            ));
+
+            typeSpecBuilder.addField(buildSortField(
+                    constantName + "_DESC",
+                    CodeBlock.of("$T.desc($S).nullsFirst()", Sort.Order.class, attributeName),
+                    isWithTiebreaker ? CodeBlock.of("$T.desc($S)", Sort.Order.class, idAttributeName) : null
+            ));
+
+            String capitalizedFieldName = getCapitalizedFieldName(fieldParameterSpec.name);
+
+            for (boolean isAscending : new boolean[]{true, false}) {
+                CodeBlock orderByStatement = CodeBlock.of(
+                        "return (root, query, cb) -> $T.orderBy(root, query, cb, $S, $L, $S)",
+                        SpecificationOrders.class,
+                        attributeName,
+                        isAscending,
+                        idAttributeName
+                );
+
+                addSpecificationMethod(
+                        "orderBy" + capitalizedFieldName + (isAscending ? "Asc" : "Desc"),
+                        orderByStatement,
+                        new ParameterSpec[0]
+                );
+            }
+        }
+
+        private static FieldSpec buildSortField(String constantName, CodeBlock order, CodeBlock tiebreakerOrder) {
+            CodeBlock initializer = tiebreakerOrder == null
+                    ? CodeBlock.of("$T.by($L)", Sort.class, order)
+                    : CodeBlock.of("$T.by($L, $L)", Sort.class, order, tiebreakerOrder);
+
+            return FieldSpec
+                    .builder(Sort.class, constantName, Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .addJavadoc("Nulls last ascending, first descending.\n")
+                    .addJavadoc("<p>Spring Data repositories ignore null precedence of {@link $T},\n", Sort.class)
+                    .addJavadoc("use with {@code SpecificationQueries} or {@code orderBy*} specifications to keep it.\n")
+                    .initializer(initializer)
+                    .build();
+        }
+
+        // GROUPWISE
+
+        private void addGroupwiseMethods(
+                ParameterSpec fieldParameterSpec,
+                String orderingFieldName,
+                String orderingAttributeName,
+                String idAttributeName
+        ) {
+            String methodNameSuffix = getCapitalizedFieldName(fieldParameterSpec.name)
+                    + "OrderBy" + getCapitalizedFieldName(orderingFieldName);
+
+            CodeBlock latestStatement = CodeBlock.of(
+                    "return $T.latestBy(root, query, cb, $S, $S, $S)",
+                    GroupwisePredicates.class,
+                    getAttributeName(),
+                    orderingAttributeName,
+                    idAttributeName
+            );
+
+            addPredicateWithSpecificationToTypeSpec(
+                    "latestBy" + methodNameSuffix,
+                    latestStatement,
+                    new ParameterSpec[0],
+                    criteriaQueryParameterSpec,
+                    criteriaBuilderParameterSpec
+            );
+
+            String topMethodName = "topBy" + methodNameSuffix;
+            ParameterSpec limitParameterSpec = ParameterSpec
+                    .builder(int.class, "limit")
+                    .build();
+
+            CodeBlock topStatement = CodeBlock.of(
+                    "return $T.topBy(root, query, cb, $S, $S, $S, $N)",
+                    GroupwisePredicates.class,
+                    getAttributeName(),
+                    orderingAttributeName,
+                    idAttributeName,
+                    limitParameterSpec
+            );
+
+            customIfPresentMethodNames.add(topMethodName);
+
+            addPredicateWithSpecificationToTypeSpec(
+                    topMethodName,
+                    topStatement,
+                    new ParameterSpec[]{limitParameterSpec},
+                    criteriaQueryParameterSpec,
+                    criteriaBuilderParameterSpec
+            );
+        }
+
+        // AGGREGATES
+
+        private void addSummaryMethod(ParameterSpec fieldParameterSpec) {
+            TypeName numericTypeName = fieldParameterSpec.type.box();
+            ParameterizedTypeName summaryTypeName = ParameterizedTypeName.get(
+                    ClassName.get(SpecificationAggregateExecutor.NumericSummary.class),
+                    numericTypeName
+            );
+
+            CodeBlock statement = CodeBlock.of(
+                    "return new $T(entityManager).summarize($T.class, specification, $S, $T.class)",
+                    SpecificationAggregateExecutor.class,
+                    entityTypeName,
+                    getAttributeName(),
+                    numericTypeName
+            );
+
+            addAggregateMethod(
+                    fieldParameterSpec.name + "Summary",
+                    summaryTypeName,
+                    statement
+            );
+        }
+
+        private void addCountByMethod(ParameterSpec fieldParameterSpec) {
+            TypeName keyTypeName = fieldParameterSpec.type.box();
+            ParameterizedTypeName countsTypeName = ParameterizedTypeName.get(
+                    ClassName.get(Map.class),
+                    keyTypeName,
+                    ClassName.get(Long.class)
+            );
+
+            CodeBlock statement = CodeBlock.of(
+                    "return new $T(entityManager).countBy($T.class, specification, $S, $T.class)",
+                    SpecificationAggregateExecutor.class,
+                    entityTypeName,
+                    getAttributeName(),
+                    keyTypeName
+            );
+
+            addAggregateMethod(
+                    "countBy" + getCapitalizedFieldName(fieldParameterSpec.name),
+                    countsTypeName,
+                    statement
+            );
+        }
+
+        private void addTemporalCountByMethod(ParameterSpec fieldParameterSpec) {
+            TypeName keyTypeName = fieldParameterSpec.type;
+            ParameterizedTypeName countsTypeName = ParameterizedTypeName.get(
+                    ClassName.get(Map.class),
+                    keyTypeName,
+                    ClassName.get(Long.class)
+            );
+
+            ParameterSpec bucketParameterSpec = ParameterSpec
+                    .builder(SpecificationAggregateExecutor.TemporalBucket.class, "bucket")
+                    .build();
+
+            CodeBlock statement = CodeBlock.of(
+                    "return new $T(entityManager).countBy($T.class, specification, $S, $N, $T.class)",
+                    SpecificationAggregateExecutor.class,
+                    entityTypeName,
+                    getAttributeName(),
+                    bucketParameterSpec,
+                    keyTypeName
+            );
+
+            addAggregateMethod(
+                    "countBy" + getCapitalizedFieldName(fieldParameterSpec.name),
+                    countsTypeName,
+                    statement,
+                    bucketParameterSpec
+            );
+        }
+
+        private void addAggregateMethod(
+                String methodName,
+                TypeName returnTypeName,
+                CodeBlock statement,
+                ParameterSpec... extraParameterSpecs
+        ) {
+            MethodSpec methodSpec = MethodSpec
+                    .methodBuilder(methodName)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(returnTypeName)
+                    .addParameter(EntityManager.class, "entityManager")
+                    .addParameter(parameterizedSpecification, "specification")
+                    .addParameters(Arrays.asList(extraParameterSpecs))
+                    .addStatement(statement)
+                    .build();
+
+            typeSpecBuilder.addMethod(methodSpec);
+        }
+
+        // ADD PREDICATE & SPECIFICATION PAIR TO SPEC BUILDER
+
+        private void addPredicateWithSpecificationFilterMethods(
+                String genericMethodName,
+                String predicateStatement,
+                ParameterSpec... parameterSpecs
+        ) {
+            addPredicateWithSpecificationFilterMethods(
+                    genericMethodName,
+                    CodeBlock.of(predicateStatement),
+                    parameterSpecs
+            );
+        }
+
+        private void addPredicateWithSpecificationFilterMethods(
+                String genericMethodName,
+                CodeBlock predicateStatement,
+                ParameterSpec... parameterSpecs
+        ) {
+            addPredicateWithSpecificationToTypeSpec(
+                    genericMethodName,
+                    predicateStatement,
+                    parameterSpecs,
+                    criteriaBuilderParameterSpec
+            );
+        }
+
+        private void addPredicateWithSpecificationQueryMethods(
+                String genericMethodName,
+                CodeBlock predicateStatement,
                 ParameterSpec... parameterSpecs
         ) {
             addPredicateWithSpecificationToTypeSpec(
@@ -750,7 +1582,7 @@ public class TypeSpecBuilderUtil {
                     criteriaParameterSpecs
             );
 
-            String specificationStatement = buildSpecificationStatement(
+            String specificationLambda = buildSpecificationLambda(
                     genericMethodName,
                     parameterSpecs,
                     criteriaParameterSpecs
@@ -758,9 +1590,44 @@ public class TypeSpecBuilderUtil {
 
             addSpecificationMethod(
                     genericMethodName,
-                    CodeBlock.of(specificationStatement),
+                    buildSpecificationStatement(
+                            genericMethodName,
+                            specificationLambda,
+                            parameterSpecs,
+                            criteriaParameterSpecs
+                    ),
                     parameterSpecs
             );
+
+            if (parameterSpecs.length != 0 && !customIfPresentMethodNames.contains(genericMethodName)) {
+                addIfPresentMethod(
+                        genericMethodName,
+                        buildIfPresentCode(genericMethodName, parameterSpecs),
+                        parameterSpecs
+                );
+            }
+        }
+
+        // <!> IfPresent variants return shared no-op specification when any argument is absent
+        // <!> (null, blank string, empty collection or array), so no predicate is built for it.
+
+        private CodeBlock buildIfPresentCode(String genericMethodName, ParameterSpec... parameterSpecs) {
+            CodeBlock absentCondition = Arrays.stream(parameterSpecs)
+                    .map(parameterSpec -> CodeBlock.of("$T.isAbsent($N)", OptionalSpecifications.class, parameterSpec))
+                    .collect(CodeBlock.joining(" || "));
+
+            return CodeBlock.builder()
+                    .beginControlFlow("if ($L)", absentCondition)
+                    .addStatement("return $T.none()", OptionalSpecifications.class)
+                    .endControlFlow()
+                    .addStatement("return $L($L)", genericMethodName, buildArguments(parameterSpecs))
+                    .build();
+        }
+
+        private static CodeBlock buildArguments(ParameterSpec... parameterSpecs) {
+            return Arrays.stream(parameterSpecs)
+                    .map(parameterSpec -> CodeBlock.of("$N", parameterSpec))
+                    .collect(CodeBlock.joining(", "));
         }
 
         // ADD SEPARATE METHODS TO SPEC BUILDER
@@ -778,6 +1645,10 @@ public class TypeSpecBuilderUtil {
                     criteriaParameterSpecs
             );
 
+            filterMethodsByField
+                    .computeIfAbsent(currentFieldName, fieldName -> new LinkedHashSet<>())
+                    .add(methodName);
+
             typeSpecBuilder.addMethod(methodSpec);
         }
 
@@ -795,6 +1666,32 @@ public class TypeSpecBuilderUtil {
             typeSpecBuilder.addMethod(methodSpec);
         }
 
+        private void addIfPresentMethod(
+                String genericMethodName,
+                CodeBlock code,
+                ParameterSpec[] parameterSpecs
+        ) {
+            // <!> Primitive arguments are never absent, such IfPresent variant would only duplicate the method
+            boolean isEveryParameterPrimitive = Arrays.stream(parameterSpecs)
+                    .allMatch(parameterSpec -> parameterSpec.type.isPrimitive());
+
+            if (isEveryParameterPrimitive) {
+                return;
+            }
+
+            MethodSpec.Builder methodSpecBuilder = MethodSpec
+                    .methodBuilder(genericMethodName + "IfPresent")
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(parameterizedSpecification)
+                    .addParameters(Arrays.asList(parameterSpecs))
+                    .addCode(code);
+
+            ParameterSpec lastParameter = parameterSpecs[parameterSpecs.length - 1];
+            methodSpecBuilder.varargs(isArrayType(lastParameter.type));
+
+            typeSpecBuilder.addMethod(methodSpecBuilder.build());
+        }
+
         private void addJoinMethod(
                 String methodName,
                 CodeBlock statement,
@@ -833,7 +1730,7 @@ public class TypeSpecBuilderUtil {
         ) {
             MethodSpec.Builder methodSpecBuilder = MethodSpec
                     .methodBuilder(methodName)
-                    .addModifiers(Modifier.PUBLIC)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                     .returns(Predicate.class)
                     .addParameter(parameterizedFrom, "root")
                     .addStatement(statement);
@@ -862,7 +1759,7 @@ public class TypeSpecBuilderUtil {
         ) {
             MethodSpec.Builder methodSpecBuilder = MethodSpec
                     .methodBuilder(methodName)
-                    .addModifiers(Modifier.PUBLIC)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                     .returns(parameterizedSpecification)
                     .addStatement(statement);
 
@@ -892,7 +1789,7 @@ public class TypeSpecBuilderUtil {
 
             MethodSpec.Builder methodSpecBuilder = MethodSpec
                     .methodBuilder(methodName)
-                    .addModifiers(Modifier.PUBLIC)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                     .returns(parametrizedJoin)
                     .addParameter(parameterizedFrom, "root")
                     .addStatement(statement);
@@ -914,7 +1811,7 @@ public class TypeSpecBuilderUtil {
 
             MethodSpec.Builder methodSpecBuilder = MethodSpec
                     .methodBuilder(methodName)
-                    .addModifiers(Modifier.PUBLIC)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                     .returns(parametrizedFetch)
                     .addParameter(parameterizedFrom, "root")
                     .addStatement(statement);
@@ -923,4 +1820,434 @@ public class TypeSpecBuilderUtil {
                     .build();
         }
     }
+
+    // MATCHER METHODS BUILDER
+
+    private static class MatcherMethodsBuilder {
+        private static final String MATCHERS_CLASS_NAME = "Matchers";
+
+        private final TypeSpec.Builder matchersTypeSpecBuilder;
+        private final ParameterizedTypeName parameterizedMatcher;
+
+        private MatcherMethodsBuilder(ClassName entityTypeName) {
+            matchersTypeSpecBuilder = TypeSpec
+                    .classBuilder(MATCHERS_CLASS_NAME)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+
+            parameterizedMatcher = ParameterizedTypeName.get(
+                    ClassName.get(java.util.function.Predicate.class),
+                    entityTypeName
+            );
+        }
+
+        private TypeSpec build() {
+            return matchersTypeSpecBuilder.build();
+        }
+
+        // UTILITY
+
+        private static String getGetterName(FieldMetadata fieldMetadata) {
+            String fieldName = fieldMetadata.fieldName;
+            boolean isPrimitiveBoolean = fieldMetadata.fieldCategory == FieldCategory.BOOLEAN
+                    && fieldMetadata.isPrimitive;
+
+            if (isPrimitiveBoolean) {
+                boolean isWithIsPrefix = fieldName.startsWith("is")
+                        && fieldName.length() > 2
+                        && Character.isUpperCase(fieldName.charAt(2));
+
+                return isWithIsPrefix
+                        ? fieldName
+                        : "is" + SpecMethodsBuilder.getCapitalizedFieldName(fieldName);
+            }
+
+            return "get" + SpecMethodsBuilder.getCapitalizedFieldName(fieldName);
+        }
+
+        // <!> Conditions are formatted with %1$s standing for the entity field value.
+        // <!> Null values never match, just like NULL never satisfies a SQL comparison.
+
+        private static CodeBlock buildValueMatcherStatement(
+                FieldMetadata fieldMetadata,
+                String condition,
+                Object... conditionArgs
+        ) {
+            String valueExpression = "entity." + getGetterName(fieldMetadata) + "()";
+            String formattedCondition = String.format(condition, valueExpression);
+
+            if (fieldMetadata.isPrimitive) {
+                return CodeBlock.of("return entity -> " + formattedCondition, conditionArgs);
+            }
+
+            return CodeBlock.of("return entity -> " + valueExpression + " != null && " + formattedCondition, conditionArgs);
+        }
+
+        // METHODS
+
+        private void addIsNullMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            String valueExpression = "entity." + getGetterName(fieldMetadata) + "()";
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "IsNull",
+                    CodeBlock.of("return entity -> $L == null", valueExpression)
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "IsNotNull",
+                    CodeBlock.of("return entity -> $L != null", valueExpression)
+            );
+        }
+
+        private void addEqualMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            String condition = fieldMetadata.isPrimitive ? "%1$s == %2$s" : "%1$s.equals(%2$s)";
+            String negatedCondition = fieldMetadata.isPrimitive ? "%1$s != %2$s" : "!%1$s.equals(%2$s)";
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "Eq",
+                    buildValueMatcherStatement(fieldMetadata, condition.replace("%2$s", fieldParameterSpec.name)),
+                    fieldParameterSpec
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "NotEq",
+                    buildValueMatcherStatement(fieldMetadata, negatedCondition.replace("%2$s", fieldParameterSpec.name)),
+                    fieldParameterSpec
+            );
+        }
+
+        private void addInCollectionMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            ParameterSpec collectionParameterSpec = ParameterSpec
+                    .builder(ParameterizedTypeName.get(ClassName.get(Collection.class), fieldParameterSpec.type), "collection")
+                    .build();
+
+            // <!> Lookup set is built once per matcher, evaluation doesn't allocate
+            CodeBlock valueSetStatement = CodeBlock.of(
+                    "$T<$T> valueSet = new $T<>($N)",
+                    Set.class,
+                    fieldParameterSpec.type,
+                    HashSet.class,
+                    collectionParameterSpec
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "In",
+                    List.of(valueSetStatement),
+                    buildValueMatcherStatement(fieldMetadata, "valueSet.contains(%1$s)"),
+                    collectionParameterSpec
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "NotIn",
+                    List.of(valueSetStatement),
+                    buildValueMatcherStatement(fieldMetadata, "!valueSet.contains(%1$s)"),
+                    collectionParameterSpec
+            );
+        }
+
+        private void addInVarargsElementsMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            ParameterSpec elementsParameterSpec = ParameterSpec
+                    .builder(ArrayTypeName.of(fieldParameterSpec.type), "elements")
+                    .build();
+
+            List<CodeBlock> lookupStatements;
+            String condition;
+            String negatedCondition;
+
+            if (fieldMetadata.isPrimitive) {
+                // <!> Primitives are binary searched in a sorted copy to avoid boxing on every evaluation
+                lookupStatements = List.of(
+                        CodeBlock.of("$T sortedElements = $N.clone()", elementsParameterSpec.type, elementsParameterSpec),
+                        CodeBlock.of("$T.sort(sortedElements)", Arrays.class)
+                );
+
+                condition = "$T.binarySearch(sortedElements, %1$s) >= 0";
+                negatedCondition = "$T.binarySearch(sortedElements, %1$s) < 0";
+            } else {
+                lookupStatements = List.of(CodeBlock.of(
+                        "$T<$T> valueSet = new $T<>($T.asList($N))",
+                        Set.class,
+                        fieldParameterSpec.type,
+                        HashSet.class,
+                        Arrays.class,
+                        elementsParameterSpec
+                ));
+
+                condition = "valueSet.contains(%1$s)";
+                negatedCondition = "!valueSet.contains(%1$s)";
+            }
+
+            Object[] conditionArgs = fieldMetadata.isPrimitive
+                    ? new Object[]{Arrays.class}
+                    : new Object[]{};
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "In",
+                    lookupStatements,
+                    buildValueMatcherStatement(fieldMetadata, condition, conditionArgs),
+                    elementsParameterSpec
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "NotIn",
+                    lookupStatements,
+                    buildValueMatcherStatement(fieldMetadata, negatedCondition, conditionArgs),
+                    elementsParameterSpec
+            );
+        }
+
+        private void addStringMatchingMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            // <!> Same normalization as lower(trim()) used by generated like specifications,
+            // <!> pattern is normalized once per matcher, values are compared in place
+            CodeBlock patternStatement = CodeBlock.of(
+                    "String lowerCasePattern = $N.toLowerCase().trim()",
+                    fieldParameterSpec
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "Like",
+                    List.of(patternStatement),
+                    buildValueMatcherStatement(fieldMetadata, "$T.containsIgnoreCase(%1$s, lowerCasePattern)", StringMatching.class),
+                    fieldParameterSpec
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "NotLike",
+                    List.of(patternStatement),
+                    buildValueMatcherStatement(fieldMetadata, "!$T.containsIgnoreCase(%1$s, lowerCasePattern)", StringMatching.class),
+                    fieldParameterSpec
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "StartsWith",
+                    List.of(patternStatement),
+                    buildValueMatcherStatement(fieldMetadata, "$T.startsWithIgnoreCase(%1$s, lowerCasePattern)", StringMatching.class),
+                    fieldParameterSpec
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "EndsWith",
+                    List.of(patternStatement),
+                    buildValueMatcherStatement(fieldMetadata, "$T.endsWithIgnoreCase(%1$s, lowerCasePattern)", StringMatching.class),
+                    fieldParameterSpec
+            );
+        }
+
+        private void addComparisonMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            boolean isTemporalField = fieldMetadata.fieldCategory == FieldCategory.TEMPORAL;
+            String name = fieldParameterSpec.name;
+
+            addComparisonMethod(fieldMetadata, fieldParameterSpec, isTemporalField ? name + "After" : name + "GreaterThan", ">");
+            addComparisonMethod(fieldMetadata, fieldParameterSpec, isTemporalField ? name + "AfterOrAt" : name + "GreaterThanOrEqualTo", ">=");
+            addComparisonMethod(fieldMetadata, fieldParameterSpec, isTemporalField ? name + "Before" : name + "LessThan", "<");
+            addComparisonMethod(fieldMetadata, fieldParameterSpec, isTemporalField ? name + "BeforeOrAt" : name + "LessThanOrEqualTo", "<=");
+        }
+
+        private void addComparisonMethod(
+                FieldMetadata fieldMetadata,
+                ParameterSpec fieldParameterSpec,
+                String methodName,
+                String operator
+        ) {
+            String condition = fieldMetadata.isPrimitive
+                    ? "%1$s " + operator + " " + fieldParameterSpec.name
+                    : "%1$s.compareTo(" + fieldParameterSpec.name + ") " + operator + " 0";
+
+            addMatcherMethod(
+                    methodName,
+                    buildValueMatcherStatement(fieldMetadata, condition),
+                    fieldParameterSpec
+            );
+        }
+
+        private void addBetweenMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            ParameterSpec fromParameterSpec = ParameterSpec
+                    .builder(fieldParameterSpec.type, fieldParameterSpec.name + "From")
+                    .build();
+
+            ParameterSpec toParameterSpec = ParameterSpec
+                    .builder(fieldParameterSpec.type, fieldParameterSpec.name + "To")
+                    .build();
+
+            String condition = fieldMetadata.isPrimitive
+                    ? String.format("%%1$s >= %s && %%1$s <= %s", fromParameterSpec.name, toParameterSpec.name)
+                    : String.format("%%1$s.compareTo(%s) >= 0 && %%1$s.compareTo(%s) <= 0", fromParameterSpec.name, toParameterSpec.name);
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "Between",
+                    buildValueMatcherStatement(fieldMetadata, "(" + condition + ")"),
+                    fromParameterSpec,
+                    toParameterSpec
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "NotBetween",
+                    buildValueMatcherStatement(fieldMetadata, "!(" + condition + ")"),
+                    fromParameterSpec,
+                    toParameterSpec
+            );
+        }
+
+        private void addTemporalWindowMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            boolean isDateField = fieldParameterSpec.type.equals(TypeName.get(LocalDate.class));
+            boolean isDateTimeField = fieldParameterSpec.type.equals(TypeName.get(LocalDateTime.class));
+            String windowCondition = "%1$s.compareTo(lowerBound) >= 0 && %1$s.compareTo(upperBound) < 0";
+
+            ParameterSpec fromParameterSpec = ParameterSpec
+                    .builder(fieldParameterSpec.type, fieldParameterSpec.name + "From")
+                    .build();
+
+            ParameterSpec toExclusiveParameterSpec = ParameterSpec
+                    .builder(fieldParameterSpec.type, fieldParameterSpec.name + "ToExclusive")
+                    .build();
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "InRange",
+                    List.of(
+                            CodeBlock.of("$T lowerBound = $N", fieldParameterSpec.type, fromParameterSpec),
+                            CodeBlock.of("$T upperBound = $N", fieldParameterSpec.type, toExclusiveParameterSpec)
+                    ),
+                    buildValueMatcherStatement(fieldMetadata, windowCondition),
+                    fromParameterSpec,
+                    toExclusiveParameterSpec
+            );
+
+            if (!isDateField && !isDateTimeField) {
+                return;
+            }
+
+            String startOfDay = isDateTimeField ? ".atStartOfDay()" : "";
+
+            ParameterSpec dayParameterSpec = ParameterSpec.builder(LocalDate.class, "day").build();
+            addMatcherMethod(
+                    fieldParameterSpec.name + "OnDay",
+                    List.of(
+                            CodeBlock.of("$T lowerBound = $N$L", fieldParameterSpec.type, dayParameterSpec, startOfDay),
+                            CodeBlock.of("$T upperBound = $N.plusDays(1)$L", fieldParameterSpec.type, dayParameterSpec, startOfDay)
+                    ),
+                    buildValueMatcherStatement(fieldMetadata, windowCondition),
+                    dayParameterSpec
+            );
+
+            ParameterSpec monthParameterSpec = ParameterSpec.builder(YearMonth.class, "month").build();
+            addMatcherMethod(
+                    fieldParameterSpec.name + "InMonth",
+                    List.of(
+                            CodeBlock.of("$T lowerBound = $N.atDay(1)$L", fieldParameterSpec.type, monthParameterSpec, startOfDay),
+                            CodeBlock.of("$T upperBound = $N.plusMonths(1).atDay(1)$L", fieldParameterSpec.type, monthParameterSpec, startOfDay)
+                    ),
+                    buildValueMatcherStatement(fieldMetadata, windowCondition),
+                    monthParameterSpec
+            );
+
+            ParameterSpec windowParameterSpec = isDateTimeField
+                    ? ParameterSpec.builder(Duration.class, "duration").build()
+                    : ParameterSpec.builder(Period.class, "period").build();
+
+            // <!> Same bounds as WithinLast specification: up to now, date windows include today
+            CodeBlock upperBoundStatement = isDateTimeField
+                    ? CodeBlock.of("$T upperBound = $T.now()", fieldParameterSpec.type, fieldParameterSpec.type)
+                    : CodeBlock.of("$T upperBound = $T.now().plusDays(1)", fieldParameterSpec.type, fieldParameterSpec.type);
+
+            CodeBlock lowerBoundStatement = isDateTimeField
+                    ? CodeBlock.of("$T lowerBound = upperBound.minus($N)", fieldParameterSpec.type, windowParameterSpec)
+                    : CodeBlock.of("$T lowerBound = upperBound.minusDays(1).minus($N)", fieldParameterSpec.type, windowParameterSpec);
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "WithinLast",
+                    List.of(upperBoundStatement, lowerBoundStatement),
+                    buildValueMatcherStatement(fieldMetadata, windowCondition),
+                    windowParameterSpec
+            );
+        }
+
+        private void addIsTrueMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            String valueExpression = "entity." + getGetterName(fieldMetadata) + "()";
+
+            String statementTemplate = fieldMetadata.isPrimitive
+                    ? "return entity -> %s"
+                    : "return entity -> Boolean.TRUE.equals(%s)";
+
+            String negatedStatementTemplate = fieldMetadata.isPrimitive
+                    ? "return entity -> !%s"
+                    : "return entity -> Boolean.FALSE.equals(%s)";
+
+            addMatcherMethod(
+                    fieldParameterSpec.name,
+                    CodeBlock.of(String.format(statementTemplate, valueExpression))
+            );
+
+            addMatcherMethod(
+                    SpecMethodsBuilder.getNegatedBooleanName(fieldParameterSpec.name),
+                    CodeBlock.of(String.format(negatedStatementTemplate, valueExpression))
+            );
+        }
+
+        private void addCollectionMethods(FieldMetadata fieldMetadata, ParameterSpec fieldParameterSpec) {
+            String valueExpression = "entity." + getGetterName(fieldMetadata) + "()";
+            String capitalizedFieldName = SpecMethodsBuilder.getCapitalizedFieldName(fieldParameterSpec.name);
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "IsEmpty",
+                    CodeBlock.of("return entity -> $L == null || $L.isEmpty()", valueExpression, valueExpression)
+            );
+
+            addMatcherMethod(
+                    fieldParameterSpec.name + "IsNotEmpty",
+                    CodeBlock.of("return entity -> $L != null && !$L.isEmpty()", valueExpression, valueExpression)
+            );
+
+            ParameterSpec elementParameterSpec = ParameterSpec
+                    .builder(SpecMethodsBuilder.getInnerClassTypeName(fieldParameterSpec), "element")
+                    .build();
+
+            addMatcherMethod(
+                    "is" + capitalizedFieldName + "Member",
+                    CodeBlock.of("return entity -> $L != null && $L.contains(element)", valueExpression, valueExpression),
+                    elementParameterSpec
+            );
+
+            addMatcherMethod(
+                    "isNot" + capitalizedFieldName + "Member",
+                    CodeBlock.of("return entity -> $L == null || !$L.contains(element)", valueExpression, valueExpression),
+                    elementParameterSpec
+            );
+        }
+
+        // ADD MATCHER METHOD TO MATCHERS BUILDER
+
+        private void addMatcherMethod(
+                String methodName,
+                CodeBlock statement,
+                ParameterSpec... parameterSpecs
+        ) {
+            addMatcherMethod(methodName, List.of(), statement, parameterSpecs);
+        }
+
+        private void addMatcherMethod(
+                String methodName,
+                List<CodeBlock> preparationStatements,
+                CodeBlock statement,
+                ParameterSpec... parameterSpecs
+        ) {
+            MethodSpec.Builder methodSpecBuilder = MethodSpec
+                    .methodBuilder(methodName)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(parameterizedMatcher)
+                    .addParameters(Arrays.asList(parameterSpecs));
+
+            for (CodeBlock preparationStatement : preparationStatements) {
+                methodSpecBuilder.addStatement(preparationStatement);
+            }
+
+            methodSpecBuilder.addStatement(statement);
+
+            if (parameterSpecs.length != 0) {
+                ParameterSpec lastParameter = parameterSpecs[parameterSpecs.length - 1];
+                methodSpecBuilder.varargs(SpecMethodsBuilder.isArrayType(lastParameter.type));
+            }
+
+            matchersTypeSpecBuilder.addMethod(methodSpecBuilder.build());
+        }
+    }
 }
@@ -0,0 +1,213 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+// <!> Runs page & count queries of a specification concurrently, each on its own EntityManager.
+// <!> Executor is supplied by the caller, e.g. Executors.newVirtualThreadPerTaskExecutor() on Java 21+.
+// <!> Note: queries run outside of the caller transaction, uncommitted changes of the caller are not visible.
+// <!> Each query runs in its own transaction on a read-only connection, the transaction is always rolled back.
+// <!> Note: returned entities are detached, lazy associations not initialized by the query throw
+// <!> LazyInitializationException on access. Fetch them in the specification (join fetch) or use DTOs.
+
+@Setter
+@Accessors(chain = true)
+public class ConcurrentPageExecutor {
+    private final EntityManagerFactory entityManagerFactory;
+    private final Executor executor;
+
+    private CountMode countMode = CountMode.EXACT;
+    private SpecificationQueryHints queryHints = SpecificationQueryHints.readOnly();
+
+    public ConcurrentPageExecutor(EntityManagerFactory entityManagerFactory, Executor executor) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.executor = executor;
+    }
+
+    public <T> Page<T> findAll(Class<T> entityClass, Specification<T> specification, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            List<T> content = withEntityManager(entityManager -> findContent(
+                    entityManager,
+                    entityClass,
+                    specification,
+                    pageable,
+                    Integer.MAX_VALUE
+            ));
+
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        return switch (countMode) {
+            case EXACT -> findAllWithConcurrentCount(entityClass, specification, pageable);
+            case SKIP_WHEN_SHORT -> findAllWithCountWhenFull(entityClass, specification, pageable);
+            case ESTIMATED -> findAllWithEstimatedCount(entityClass, specification, pageable);
+        };
+    }
+
+    private <T> Page<T> findAllWithConcurrentCount(
+            Class<T> entityClass,
+            Specification<T> specification,
+            Pageable pageable
+    ) {
+        CompletableFuture<List<T>> contentFuture = supplyWithEntityManager(entityManager -> findContent(
+                entityManager,
+                entityClass,
+                specification,
+                pageable,
+                pageable.getPageSize()
+        ));
+
+        CompletableFuture<Long> countFuture = supplyWithEntityManager(entityManager -> count(
+                entityManager,
+                entityClass,
+                specification
+        ));
+
+        List<T> content = join(contentFuture);
+        return new PageImpl<>(content, pageable, join(countFuture));
+    }
+
+    // <!> Count query is skipped when the total follows from the page itself (first or last non-empty page),
+    // <!> same rules as HintedSpecificationExecutor, both queries share one EntityManager.
+
+    private <T> Page<T> findAllWithCountWhenFull(
+            Class<T> entityClass,
+            Specification<T> specification,
+            Pageable pageable
+    ) {
+        return withEntityManager(entityManager -> {
+            List<T> content = findContent(entityManager, entityClass, specification, pageable, pageable.getPageSize());
+            return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, entityClass, specification));
+        });
+    }
+
+    // <!> No count query at all, one extra row tells whether a next page exists.
+    // <!> Total is a lower bound: offset + page size + 1 when more rows follow.
+
+    private <T> Page<T> findAllWithEstimatedCount(
+            Class<T> entityClass,
+            Specification<T> specification,
+            Pageable pageable
+    ) {
+        List<T> content = withEntityManager(entityManager -> findContent(
+                entityManager,
+                entityClass,
+                specification,
+                pageable,
+                pageable.getPageSize() + 1
+        ));
+
+        if (content.size() <= pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, pageable.getOffset() + content.size());
+        }
+
+        return new PageImpl<>(
+                content.subList(0, pageable.getPageSize()),
+                pageable,
+                pageable.getOffset() + content.size()
+        );
+    }
+
+    // UTILITY
+
+    private <T> List<T> findContent(
+            EntityManager entityManager,
+            Class<T> entityClass,
+            Specification<T> specification,
+            Pageable pageable,
+            int maxResults
+    ) {
+        TypedQuery<T> typedQuery = SpecificationQueries.createQuery(
+                entityManager,
+                entityClass,
+                specification,
+                pageable.getSort()
+        );
+
+        if (pageable.isPaged()) {
+            typedQuery
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(maxResults);
+        }
+
+        return queryHints.apply(typedQuery, specification).getResultList();
+    }
+
+    private <T> long count(EntityManager entityManager, Class<T> entityClass, Specification<T> specification) {
+        TypedQuery<Long> countQuery = SpecificationQueries.createCountQuery(entityManager, entityClass, specification);
+        return queryHints.apply(countQuery, specification).getSingleResult();
+    }
+
+    private <R> CompletableFuture<R> supplyWithEntityManager(Function<EntityManager, R> function) {
+        return CompletableFuture.supplyAsync(() -> withEntityManager(function), executor);
+    }
+
+    // <!> Connection is held by the session until it is closed, so that its own read-only flag captured before
+    // <!> the transaction can be restored after rollback and the pooled connection is returned unchanged.
+
+    private <R> R withEntityManager(Function<EntityManager, R> function) {
+        Session session = entityManagerFactory.unwrap(SessionFactory.class)
+                .withOptions()
+                .connectionHandlingMode(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_HOLD)
+                .openSession();
+
+        try {
+            session.setDefaultReadOnly(true);
+
+            boolean isConnectionReadOnly = session.doReturningWork(Connection::isReadOnly);
+            session.doWork(connection -> connection.setReadOnly(true));
+
+            Transaction transaction = session.beginTransaction();
+            try {
+                return function.apply(session);
+            } finally {
+                transaction.rollback();
+                session.doWork(connection -> connection.setReadOnly(isConnectionReadOnly));
+            }
+        } finally {
+            session.close();
+        }
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw exception;
+        }
+    }
+
+    public enum CountMode {
+        // <!> Count query runs concurrently with the page query
+        EXACT,
+
+        // <!> Count query runs after the page query unless the total follows from the page
+        SKIP_WHEN_SHORT,
+
+        // <!> Count query is replaced by a one row lookahead
+        ESTIMATED
+    }
+}
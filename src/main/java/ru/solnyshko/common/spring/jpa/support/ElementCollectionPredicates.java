@@ -0,0 +1,45 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.experimental.UtilityClass;
+
+import java.util.Collection;
+
+@UtilityClass
+public class ElementCollectionPredicates {
+
+    // <!> exists (select 1 from <correlated root> join root.attribute v where v in (values))
+    // <!> Correlated root adds no second entity table, rows of the outer query are not multiplied either.
+    // <!> Note: works for basic element types only, collections of @Embeddable values are not supported.
+
+    public Predicate containsAny(
+            From<?, ?> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            String attributeName,
+            Collection<?> values
+    ) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Join<?, ?> elements = correlate(subquery, root).join(attributeName);
+
+        subquery.select(cb.literal(1)).where(elements.in(values));
+
+        return cb.exists(subquery);
+    }
+
+    // UTILITY
+
+    private From<?, ?> correlate(Subquery<?> subquery, From<?, ?> root) {
+        if (root instanceof Root<?> entityRoot) {
+            return subquery.correlate(entityRoot);
+        }
+
+        return subquery.correlate((Join<?, ?>) root);
+    }
+}
@@ -0,0 +1,109 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class GroupwisePredicates {
+
+    // <!> Latest row per group as a correlated anti-join, no rows are reduced in memory:
+    // <!> not exists (select 1 from Entity s where s.group = e.group
+    // <!>     and (s.ordering > e.ordering or s.ordering = e.ordering and s.id > e.id))
+    // <!> Note: rows with null group or ordering value never win, index on (group, ordering) serves the subquery.
+    // <!> Note: rows are ranked among the whole group, filters combined with and() apply after ranking,
+    // <!> latestBy(...).and(statusEq(PAID)) keeps groups whose latest row is PAID, not the latest PAID row.
+
+    public Predicate latestBy(
+            From<?, ?> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            String groupAttributeName,
+            String orderingAttributeName,
+            String idAttributeName
+    ) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<?> subRoot = subquery.from(root.getJavaType());
+
+        subquery.select(cb.literal(1)).where(
+                buildOutrankedPredicate(root, subRoot, cb, groupAttributeName, orderingAttributeName, idAttributeName)
+        );
+
+        return buildRankablePredicate(root, cb, groupAttributeName, orderingAttributeName, idAttributeName, cb.not(cb.exists(subquery)));
+    }
+
+    // <!> Top N rows per group: (select count(s) ... outranking rows ...) < n
+
+    public Predicate topBy(
+            From<?, ?> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            String groupAttributeName,
+            String orderingAttributeName,
+            String idAttributeName,
+            int limit
+    ) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<?> subRoot = subquery.from(root.getJavaType());
+
+        subquery.select(cb.count(subRoot)).where(
+                buildOutrankedPredicate(root, subRoot, cb, groupAttributeName, orderingAttributeName, idAttributeName)
+        );
+
+        return buildRankablePredicate(root, cb, groupAttributeName, orderingAttributeName, idAttributeName, cb.lessThan(subquery, (long) limit));
+    }
+
+    // UTILITY
+
+    private static Predicate buildOutrankedPredicate(
+            From<?, ?> root,
+            Root<?> subRoot,
+            CriteriaBuilder cb,
+            String groupAttributeName,
+            String orderingAttributeName,
+            String idAttributeName
+    ) {
+        Predicate isSameGroup = cb.equal(
+                SpecificationQueries.getPath(subRoot, groupAttributeName),
+                SpecificationQueries.getPath(root, groupAttributeName)
+        );
+
+        Path<Comparable<Object>> subId = SpecificationQueries.getPath(subRoot, idAttributeName);
+        Path<Comparable<Object>> id = SpecificationQueries.getPath(root, idAttributeName);
+
+        if (orderingAttributeName.equals(idAttributeName)) {
+            return cb.and(isSameGroup, cb.greaterThan(subId, id));
+        }
+
+        Path<Comparable<Object>> subOrdering = SpecificationQueries.getPath(subRoot, orderingAttributeName);
+        Path<Comparable<Object>> ordering = SpecificationQueries.getPath(root, orderingAttributeName);
+
+        return cb.and(isSameGroup, cb.or(
+                cb.greaterThan(subOrdering, ordering),
+                cb.and(cb.equal(subOrdering, ordering), cb.greaterThan(subId, id))
+        ));
+    }
+
+    private static Predicate buildRankablePredicate(
+            From<?, ?> root,
+            CriteriaBuilder cb,
+            String groupAttributeName,
+            String orderingAttributeName,
+            String idAttributeName,
+            Predicate rankPredicate
+    ) {
+        // <!> Null groups never compare equal, so such rows would never be outranked & all pass otherwise
+        Predicate hasGroup = cb.isNotNull(SpecificationQueries.getPath(root, groupAttributeName));
+
+        if (orderingAttributeName.equals(idAttributeName)) {
+            return cb.and(hasGroup, rankPredicate);
+        }
+
+        return cb.and(hasGroup, cb.isNotNull(SpecificationQueries.getPath(root, orderingAttributeName)), rankPredicate);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+public class HintedSpecificationExecutor {
+    private final EntityManager entityManager;
+    private final SpecificationQueryHints queryHints;
+
+    public HintedSpecificationExecutor(EntityManager entityManager, SpecificationQueryHints queryHints) {
+        this.entityManager = entityManager;
+        this.queryHints = queryHints;
+    }
+
+    public <T> List<T> findAll(Class<T> entityClass, Specification<T> specification) {
+        return findAll(entityClass, specification, Sort.unsorted());
+    }
+
+    public <T> List<T> findAll(Class<T> entityClass, Specification<T> specification, Sort sort) {
+        TypedQuery<T> typedQuery = SpecificationQueries.createQuery(entityManager, entityClass, specification, sort);
+        return queryHints.apply(typedQuery, specification).getResultList();
+    }
+
+    public <T> Page<T> findAll(Class<T> entityClass, Specification<T> specification, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            List<T> content = findAll(entityClass, specification, pageable.getSort());
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        TypedQuery<T> typedQuery = SpecificationQueries.createQuery(entityManager, entityClass, specification, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+
+        List<T> content = queryHints.apply(typedQuery, specification).getResultList();
+
+        // <!> Count query is skipped only when the total follows from the page itself (first or last non-empty page)
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityClass, specification));
+    }
+
+    public <T> long count(Class<T> entityClass, Specification<T> specification) {
+        TypedQuery<Long> countQuery = SpecificationQueries.createCountQuery(entityManager, entityClass, specification);
+        return queryHints.apply(countQuery, specification).getSingleResult();
+    }
+}
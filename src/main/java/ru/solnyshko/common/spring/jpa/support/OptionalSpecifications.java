@@ -0,0 +1,76 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+@UtilityClass
+public class OptionalSpecifications {
+
+    private static final Specification<?> NONE = new NoneSpecification<>();
+
+    // <!> Shared no-op specification returned by generated IfPresent variants for absent arguments.
+    // <!> It builds no predicate and disappears from and / or compositions instead of wrapping them.
+
+    @SuppressWarnings("unchecked")
+    public <T> Specification<T> none() {
+        return (Specification<T>) NONE;
+    }
+
+    public boolean isNone(Specification<?> specification) {
+        return specification == NONE;
+    }
+
+    // <!> Negation keeping absent filters absent: not(none()) is none().
+    // <!> Note: Specification.not(none()) can't be used, it calls cb.not() with the null predicate of none().
+
+    public <T> Specification<T> not(Specification<T> specification) {
+        return specification == null || isNone(specification)
+                ? none()
+                : Specification.not(specification);
+    }
+
+    // <!> Absent arguments: null, blank strings, empty collections & empty arrays.
+
+    public boolean isAbsent(Object argument) {
+        if (argument == null) {
+            return true;
+        }
+
+        if (argument instanceof CharSequence charSequence) {
+            return charSequence.toString().isBlank();
+        }
+
+        if (argument instanceof Collection<?> collection) {
+            return collection.isEmpty();
+        }
+
+        return argument.getClass().isArray() && Array.getLength(argument) == 0;
+    }
+
+    // NONE SPECIFICATION
+
+    private static class NoneSpecification<T> implements Specification<T> {
+
+        @Override
+        public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+            return null;
+        }
+
+        @Override
+        public Specification<T> and(Specification<T> other) {
+            return other == null ? this : other;
+        }
+
+        @Override
+        public Specification<T> or(Specification<T> other) {
+            return other == null ? this : other;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.support.descriptor.CompositeSpecificationDescriptor;
+import ru.solnyshko.common.spring.jpa.support.descriptor.SpecificationDescriptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// <!> Fast path for AND-ed simple generated filters: every distinct combination of filters
+// <!> maps to a cached JPQL string, so Hibernate serves it from its query plan cache
+// <!> and Criteria building & SQM translation are skipped on repeated calls.
+// <!> Anything else (like, joins, fetches, or, custom lambdas) falls back to the Criteria path.
+
+@RequiredArgsConstructor
+public class PrecompiledSpecificationExecutor {
+    public static final String ENTITY_ALIAS = "e";
+
+    private final EntityManager entityManager;
+    private final ConcurrentMap<QueryShape, String> queryStrings = new ConcurrentHashMap<>();
+
+    public <T> List<T> findAll(Class<T> entityClass, Specification<T> specification) {
+        List<SpecificationDescriptor<T>> descriptors = collectSimpleDescriptors(specification);
+
+        if (descriptors == null) {
+            return SpecificationQueries
+                    .createQuery(entityManager, entityClass, specification)
+                    .getResultList();
+        }
+
+        String queryString = getQueryString(entityClass, descriptors, false);
+        TypedQuery<T> query = entityManager.createQuery(queryString, entityClass);
+
+        bindArguments(query, descriptors);
+        return query.getResultList();
+    }
+
+    public <T> long count(Class<T> entityClass, Specification<T> specification) {
+        List<SpecificationDescriptor<T>> descriptors = collectSimpleDescriptors(specification);
+
+        if (descriptors == null) {
+            return SpecificationQueries
+                    .createCountQuery(entityManager, entityClass, specification)
+                    .getSingleResult();
+        }
+
+        String queryString = getQueryString(entityClass, descriptors, true);
+        TypedQuery<Long> query = entityManager.createQuery(queryString, Long.class);
+
+        bindArguments(query, descriptors);
+        return query.getSingleResult();
+    }
+
+    // UTILITY
+
+    private String getQueryString(Class<?> entityClass, List<? extends SpecificationDescriptor<?>> descriptors, boolean isCount) {
+        List<String> fragments = descriptors.stream()
+                .map(SpecificationDescriptor::getJpqlFragment)
+                .toList();
+
+        return queryStrings.computeIfAbsent(
+                new QueryShape(entityClass, fragments, isCount),
+                this::buildQueryString
+        );
+    }
+
+    private String buildQueryString(QueryShape queryShape) {
+        String entityName = entityManager.getMetamodel().entity(queryShape.entityClass()).getName();
+        StringBuilder queryString = new StringBuilder(buildSelectClause(queryShape, entityName));
+
+        int parameterPosition = 1;
+        for (int i = 0; i < queryShape.fragments().size(); i++) {
+            queryString.append(i == 0 ? " where " : " and ");
+
+            String fragment = queryShape.fragments().get(i);
+            for (char character : fragment.toCharArray()) {
+                if (character == '?') {
+                    queryString.append('?').append(parameterPosition++);
+                } else {
+                    queryString.append(character);
+                }
+            }
+        }
+
+        return queryString.toString();
+    }
+
+    private static String buildSelectClause(QueryShape queryShape, String entityName) {
+        return queryShape.isCount()
+                ? String.format("select count(%s) from %s %s", ENTITY_ALIAS, entityName, ENTITY_ALIAS)
+                : String.format("select %s from %s %s", ENTITY_ALIAS, entityName, ENTITY_ALIAS);
+    }
+
+    private static void bindArguments(TypedQuery<?> query, List<? extends SpecificationDescriptor<?>> descriptors) {
+        int parameterPosition = 1;
+
+        for (SpecificationDescriptor<?> descriptor : descriptors) {
+            for (Object argument : descriptor.getArguments()) {
+                // <!> Descriptors hold arrays as lists, both are padded the same way Criteria filters are
+                Object boundArgument = argument instanceof Collection<?> collection
+                        ? QueryShapes.padded(collection)
+                        : argument;
+
+                query.setParameter(parameterPosition++, boundArgument);
+            }
+        }
+    }
+
+    // <!> Returns null when specification can't be expressed as a conjunction of JPQL fragments.
+
+    private static <T> List<SpecificationDescriptor<T>> collectSimpleDescriptors(Specification<T> specification) {
+        List<SpecificationDescriptor<T>> descriptors = new ArrayList<>();
+
+        if (specification == null) {
+            return descriptors;
+        }
+
+        if (specification instanceof SpecificationDescriptor<T> descriptor) {
+            if (descriptor.getJpqlFragment() == null) {
+                return null;
+            }
+
+            descriptors.add(descriptor);
+            return descriptors;
+        }
+
+        if (specification instanceof CompositeSpecificationDescriptor<T> composite
+                && composite.getOperator() == CompositeSpecificationDescriptor.Operator.AND) {
+            for (Specification<T> operand : composite.getOperands()) {
+                List<SpecificationDescriptor<T>> operandDescriptors = collectSimpleDescriptors(operand);
+
+                if (operandDescriptors == null) {
+                    return null;
+                }
+
+                descriptors.addAll(operandDescriptors);
+            }
+
+            return descriptors;
+        }
+
+        return null;
+    }
+
+    // QUERY SHAPE
+
+    private record QueryShape(Class<?> entityClass, List<String> fragments, boolean isCount) {
+    }
+}
@@ -0,0 +1,69 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import lombok.experimental.UtilityClass;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+@UtilityClass
+public class QueryShapes {
+
+    // <!> IN lists are deduplicated and padded to the next power of two by repeating the last element,
+    // <!> so that N distinct list sizes produce log2(N) query shapes instead of N.
+
+    public <T> List<T> padded(Collection<T> values) {
+        List<T> distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+        if (distinctValues.isEmpty()) {
+            return distinctValues;
+        }
+
+        int paddedSize = Integer.highestOneBit(distinctValues.size() - 1) << 1;
+        T lastValue = distinctValues.get(distinctValues.size() - 1);
+
+        while (distinctValues.size() < paddedSize) {
+            distinctValues.add(lastValue);
+        }
+
+        return distinctValues;
+    }
+
+    // <!> Accepts both primitive & object arrays, elements are boxed.
+
+    public List<Object> paddedArray(Object array) {
+        int length = Array.getLength(array);
+        List<Object> values = new ArrayList<>(length);
+
+        for (int i = 0; i < length; i++) {
+            values.add(Array.get(array, i));
+        }
+
+        return padded(values);
+    }
+
+    // <!> Literal IN lists are deduplicated & sorted so that any order of the same values has one shape.
+    // <!> Null can't be rendered as a literal and never matches IN anyway, so it is rejected (use <field>IsNull).
+
+    public Expression<?>[] literals(CriteriaBuilder cb, Collection<? extends Enum<?>> values) {
+        if (values.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException(
+                    "Null element in enum IN list " + values + ", combine with <field>IsNull specification instead");
+        }
+
+        return values.stream()
+                .distinct()
+                .sorted((left, right) -> Integer.compare(left.ordinal(), right.ordinal()))
+                .map(cb::literal)
+                .toArray(Expression<?>[]::new);
+    }
+
+    public Expression<?>[] literals(CriteriaBuilder cb, Enum<?>[] values) {
+        return literals(cb, Arrays.asList(values));
+    }
+}
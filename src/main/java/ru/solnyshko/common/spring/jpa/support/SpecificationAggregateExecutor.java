@@ -0,0 +1,140 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.TemporalUnit;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.temporal.Temporal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// <!> Aggregates are computed by the database from a single CriteriaQuery<Tuple>,
+// <!> filtered by any specification and without hydrating entities.
+
+@RequiredArgsConstructor
+public class SpecificationAggregateExecutor {
+    private final EntityManager entityManager;
+
+    public <T> long count(Class<T> entityClass, Specification<T> specification) {
+        return SpecificationQueries
+                .createCountQuery(entityManager, entityClass, specification)
+                .getSingleResult();
+    }
+
+    public <T, N extends Number> NumericSummary<N> summarize(
+            Class<T> entityClass,
+            Specification<T> specification,
+            String attributeName,
+            Class<N> numericType
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Path<N> attributePath = SpecificationQueries.getPath(root, attributeName);
+
+        SpecificationQueries.applySpecification(specification, root, query, cb);
+        query.orderBy();
+        query.multiselect(
+                cb.count(attributePath),
+                cb.sum(attributePath),
+                cb.avg(attributePath),
+                cb.min(attributePath),
+                cb.max(attributePath)
+        );
+
+        Tuple tuple = entityManager.createQuery(query).getSingleResult();
+
+        return new NumericSummary<>(
+                tuple.get(0, Long.class),
+                tuple.get(1, Number.class),
+                tuple.get(2, Double.class),
+                numericType.cast(tuple.get(3)),
+                numericType.cast(tuple.get(4))
+        );
+    }
+
+    // <!> Null group keys are counted under null key, groups are ordered by key.
+
+    public <T, K> Map<K, Long> countBy(
+            Class<T> entityClass,
+            Specification<T> specification,
+            String attributeName,
+            Class<K> keyType
+    ) {
+        return countBy(entityClass, specification, keyType, root -> SpecificationQueries.getPath(root, attributeName));
+    }
+
+    // <!> Temporal values are grouped by the start of their bucket (truncated by the database, date_trunc in PostgreSQL),
+    // <!> grouping by raw values would give a bucket per distinct instant.
+
+    public <T, K extends Temporal> Map<K, Long> countBy(
+            Class<T> entityClass,
+            Specification<T> specification,
+            String attributeName,
+            TemporalBucket bucket,
+            Class<K> keyType
+    ) {
+        return countBy(entityClass, specification, keyType, root -> {
+            Path<K> attributePath = SpecificationQueries.getPath(root, attributeName);
+            return ((HibernateCriteriaBuilder) entityManager.getCriteriaBuilder()).truncate(attributePath, bucket.unit);
+        });
+    }
+
+    private <T, K> Map<K, Long> countBy(
+            Class<T> entityClass,
+            Specification<T> specification,
+            Class<K> keyType,
+            Function<Root<T>, Expression<K>> keyExpressionFactory
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Expression<K> keyExpression = keyExpressionFactory.apply(root);
+
+        SpecificationQueries.applySpecification(specification, root, query, cb);
+        query.multiselect(keyExpression, cb.count(root))
+                .groupBy(keyExpression)
+                .orderBy(cb.asc(keyExpression));
+
+        Map<K, Long> counts = new LinkedHashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            counts.put(keyType.cast(tuple.get(0)), tuple.get(1, Long.class));
+        }
+
+        return counts;
+    }
+
+    // TEMPORAL BUCKET
+
+    @RequiredArgsConstructor
+    public enum TemporalBucket {
+        HOUR(TemporalUnit.HOUR),
+        DAY(TemporalUnit.DAY),
+        MONTH(TemporalUnit.MONTH),
+        YEAR(TemporalUnit.YEAR);
+
+        private final TemporalUnit unit;
+    }
+
+    // NUMERIC SUMMARY
+
+    // <!> Sum type follows JPA rules: Long for integral types, Double for floating point ones.
+
+    public record NumericSummary<N extends Number>(
+            long count,
+            Number sum,
+            Double average,
+            N min,
+            N max
+    ) {
+    }
+}
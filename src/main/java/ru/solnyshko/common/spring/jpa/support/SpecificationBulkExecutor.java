@@ -0,0 +1,179 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// <!> Runs generated filters as set-based UPDATE ... WHERE / DELETE ... WHERE statements.
+// <!> Note: bulk statements bypass the persistence context, managed entities are not updated.
+// <!> Note: specifications using query (fetches, distinct, ordering) have no effect on bulk statements.
+
+public class SpecificationBulkExecutor {
+    private final EntityManager entityManager;
+    private final TransactionOperations transactionOperations;
+
+    public SpecificationBulkExecutor(EntityManager entityManager) {
+        this(entityManager, TransactionOperations.withoutTransaction());
+    }
+
+    // <!> With TransactionTemplate every batch runs in its own transaction, bounding lock duration.
+
+    public SpecificationBulkExecutor(EntityManager entityManager, TransactionOperations transactionOperations) {
+        this.entityManager = entityManager;
+        this.transactionOperations = transactionOperations;
+    }
+
+    public <T> int delete(Class<T> entityClass, Specification<T> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<T> delete = cb.createCriteriaDelete(entityClass);
+        Root<T> root = delete.from(entityClass);
+
+        Predicate predicate = toPredicate(entityClass, specification, root, cb);
+        if (predicate != null) {
+            delete.where(predicate);
+        }
+
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    public <T> int update(
+            Class<T> entityClass,
+            Specification<T> specification,
+            BiConsumer<CriteriaUpdate<T>, Root<T>> assignments
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityClass);
+        Root<T> root = update.from(entityClass);
+
+        assignments.accept(update, root);
+
+        Predicate predicate = toPredicate(entityClass, specification, root, cb);
+        if (predicate != null) {
+            update.where(predicate);
+        }
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    public <T> long deleteInBatches(Class<T> entityClass, Specification<T> specification, int batchSize) {
+        return executeInBatches(entityClass, specification, batchSize, idsSpecification ->
+                delete(entityClass, idsSpecification)
+        );
+    }
+
+    public <T> long updateInBatches(
+            Class<T> entityClass,
+            Specification<T> specification,
+            BiConsumer<CriteriaUpdate<T>, Root<T>> assignments,
+            int batchSize
+    ) {
+        return executeInBatches(entityClass, specification, batchSize, idsSpecification ->
+                update(entityClass, idsSpecification, assignments)
+        );
+    }
+
+    // BATCHES
+
+    // <!> Ids are walked in keyset order (id > last id of previous batch), so rows still matching
+    // <!> the filter after an update are not picked again and every batch touches at most batchSize rows.
+
+    private <T> long executeInBatches(
+            Class<T> entityClass,
+            Specification<T> specification,
+            int batchSize,
+            Function<Specification<T>, Integer> batchStatement
+    ) {
+        String idAttributeName = getIdAttributeName(entityClass);
+
+        long affectedRows = 0;
+        Object lastId = null;
+
+        while (true) {
+            Object lowerBoundId = lastId;
+
+            BatchResult batchResult = transactionOperations.execute(status -> {
+                List<Object> ids = selectIds(entityClass, specification, idAttributeName, lowerBoundId, batchSize);
+                if (ids.isEmpty()) {
+                    return new BatchResult(ids, 0);
+                }
+
+                Specification<T> idsSpecification = (root, query, cb) -> root.get(idAttributeName).in(ids);
+                return new BatchResult(ids, batchStatement.apply(idsSpecification));
+            });
+
+            if (batchResult == null || batchResult.ids().isEmpty()) {
+                return affectedRows;
+            }
+
+            affectedRows += batchResult.affectedRows();
+
+            if (batchResult.ids().size() < batchSize) {
+                return affectedRows;
+            }
+
+            lastId = batchResult.ids().get(batchResult.ids().size() - 1);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T> List<Object> selectIds(
+            Class<T> entityClass,
+            Specification<T> specification,
+            String idAttributeName,
+            Object lowerBoundId,
+            int batchSize
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = cb.createQuery(Object.class);
+        Root<T> root = query.from(entityClass);
+        Path<Comparable> idPath = root.get(idAttributeName);
+
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (lowerBoundId != null) {
+            Predicate keysetPredicate = cb.greaterThan(idPath, (Comparable) lowerBoundId);
+            predicate = predicate == null ? keysetPredicate : cb.and(predicate, keysetPredicate);
+        }
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.select(idPath).orderBy(cb.asc(idPath));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(batchSize)
+                .getResultList();
+    }
+
+    // UTILITY
+
+    private <T> String getIdAttributeName(Class<T> entityClass) {
+        EntityType<T> entityType = entityManager.getMetamodel().entity(entityClass);
+        return entityType.getId(entityType.getIdType().getJavaType()).getName();
+    }
+
+    private <T> Predicate toPredicate(Class<T> entityClass, Specification<T> specification, Root<T> root, CriteriaBuilder cb) {
+        if (specification == null) {
+            return null;
+        }
+
+        // <!> Bulk statements have no CriteriaQuery, a detached one is passed for specifications expecting it
+        CriteriaQuery<T> detachedQuery = cb.createQuery(entityClass);
+        return specification.toPredicate(root, detachedQuery, cb);
+    }
+
+    private record BatchResult(List<Object> ids, int affectedRows) {
+    }
+}
@@ -0,0 +1,56 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import lombok.experimental.UtilityClass;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@UtilityClass
+public class SpecificationOrders {
+
+    // <!> Ascending orders put nulls last, descending ones nulls first on every database, matching default
+    // <!> B-tree index order (e.g. PostgreSQL), so that an index on (attribute, id) serves both directions.
+    // <!> Generated Sort constants declare the same null precedence.
+    // <!> Orders are appended to the ones already applied, count queries (Long result) are left unordered.
+
+    public Predicate orderBy(
+            From<?, ?> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            String attributeName,
+            boolean isAscending,
+            String idAttributeName
+    ) {
+        if (query == null || Long.class.equals(query.getResultType())) {
+            return null;
+        }
+
+        List<Order> orders = new ArrayList<>(query.getOrderList());
+        orders.add(toOrder(cb, SpecificationQueries.getPath(root, attributeName), isAscending));
+
+        // <!> Id tiebreaker makes ordering deterministic, which keyset pagination relies on
+        if (idAttributeName != null && !idAttributeName.equals(attributeName)) {
+            orders.add(toOrder(cb, SpecificationQueries.getPath(root, idAttributeName), isAscending));
+        }
+
+        query.orderBy(orders);
+        return null;
+    }
+
+    private static Order toOrder(CriteriaBuilder cb, Expression<?> expression, boolean isAscending) {
+        if (cb instanceof HibernateCriteriaBuilder hibernateCriteriaBuilder) {
+            return isAscending
+                    ? hibernateCriteriaBuilder.asc(expression, false)
+                    : hibernateCriteriaBuilder.desc(expression, true);
+        }
+
+        return isAscending ? cb.asc(expression) : cb.desc(expression);
+    }
+}
@@ -0,0 +1,129 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.experimental.UtilityClass;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@UtilityClass
+public class SpecificationQueries {
+
+    public <T> TypedQuery<T> createQuery(
+            EntityManager entityManager,
+            Class<T> entityClass,
+            Specification<T> specification
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+
+        applySpecification(specification, root, query, cb);
+        return entityManager.createQuery(query.select(root));
+    }
+
+    // <!> Sort is appended after orders applied by specifications (e.g. rank ordering).
+    // <!> Unlike Spring Data repositories, Sort.Order null handling (nullsFirst / nullsLast) is applied.
+
+    public <T> TypedQuery<T> createQuery(
+            EntityManager entityManager,
+            Class<T> entityClass,
+            Specification<T> specification,
+            Sort sort
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+
+        applySpecification(specification, root, query, cb);
+
+        if (sort != null && sort.isSorted()) {
+            List<Order> orders = new ArrayList<>(query.getOrderList());
+            orders.addAll(toOrders(sort, root, cb));
+            query.orderBy(orders);
+        }
+
+        return entityManager.createQuery(query.select(root));
+    }
+
+    public <T> TypedQuery<Long> createCountQuery(
+            EntityManager entityManager,
+            Class<T> entityClass,
+            Specification<T> specification
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+
+        applySpecification(specification, root, query, cb);
+
+        // <!> Orders applied by specifications are dropped, just like Spring Data count queries do
+        query.orderBy();
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+
+        return entityManager.createQuery(query);
+    }
+
+    public <T> void applySpecification(
+            Specification<T> specification,
+            Root<T> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb
+    ) {
+        if (specification == null) {
+            return;
+        }
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    // <!> QueryUtils resolves attributes & ignore case, null precedence is put back on top of its orders
+
+    private static List<Order> toOrders(Sort sort, Root<?> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+
+        for (Sort.Order sortOrder : sort) {
+            Order order = QueryUtils.toOrders(Sort.by(sortOrder), root, cb).get(0);
+
+            if (sortOrder.getNullHandling() == Sort.NullHandling.NATIVE
+                    || !(cb instanceof HibernateCriteriaBuilder hibernateCriteriaBuilder)) {
+                orders.add(order);
+                continue;
+            }
+
+            boolean isNullsFirst = sortOrder.getNullHandling() == Sort.NullHandling.NULLS_FIRST;
+            orders.add(sortOrder.isAscending()
+                    ? hibernateCriteriaBuilder.asc(order.getExpression(), isNullsFirst)
+                    : hibernateCriteriaBuilder.desc(order.getExpression(), isNullsFirst));
+        }
+
+        return orders;
+    }
+
+    // <!> Dotted attribute names (address.city) resolve embedded value object attributes.
+
+    @SuppressWarnings("unchecked")
+    public <Y> Path<Y> getPath(Path<?> root, String attributeName) {
+        Path<?> path = root;
+
+        for (String pathElement : attributeName.split("\\.")) {
+            path = path.get(pathElement);
+        }
+
+        return (Path<Y>) path;
+    }
+}
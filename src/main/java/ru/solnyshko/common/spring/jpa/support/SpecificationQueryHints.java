@@ -0,0 +1,59 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.Query;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.support.metrics.NamedSpecification;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SpecificationQueryHints {
+
+    // <!> Unset (null) hints are not applied, Hibernate & JDBC driver defaults stay in effect.
+
+    private Integer fetchSize;
+    private Duration timeout;
+    private Boolean readOnly;
+    private Boolean cacheable;
+    private boolean isCommentEnabled = true;
+
+    // <!> Read-only entities skip dirty checking & keep no snapshot, halving persistence context memory.
+
+    public static SpecificationQueryHints readOnly() {
+        return new SpecificationQueryHints().setReadOnly(true);
+    }
+
+    // <!> Note: comments are rendered into SQL only with hibernate.use_sql_comments=true,
+    // <!> name of a tagged specification (e.g. "Order.statusEq") is used as comment.
+
+    public <Q extends Query> Q apply(Q query, Specification<?> specification) {
+        if (fetchSize != null) {
+            query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        }
+
+        if (timeout != null) {
+            query.setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, timeout.toMillis());
+        }
+
+        if (readOnly != null) {
+            query.setHint(HibernateHints.HINT_READ_ONLY, readOnly);
+        }
+
+        if (cacheable != null) {
+            query.setHint(HibernateHints.HINT_CACHEABLE, cacheable);
+        }
+
+        if (isCommentEnabled && specification instanceof NamedSpecification<?> namedSpecification) {
+            query.setHint(HibernateHints.HINT_COMMENT, namedSpecification.getName());
+        }
+
+        return query;
+    }
+}
@@ -0,0 +1,99 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Setter
+@Accessors(chain = true)
+public class SpecificationStreamExecutor {
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+    public static final int DEFAULT_CLEAR_INTERVAL = 1000;
+
+    private final EntityManager entityManager;
+
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private int clearInterval = DEFAULT_CLEAR_INTERVAL;
+    private boolean readOnly = true;
+    private Duration timeout;
+
+    public SpecificationStreamExecutor(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // <!> Note: returned stream holds an open cursor and must be closed (try-with-resources).
+    // <!> Every clearInterval elements the entities streamed so far are detached, other entities of the caller's
+    // <!> persistence context stay managed. Note: associations loaded with streamed rows stay managed
+    // <!> unless mapped with CascadeType.DETACH, and a streamed row managed before streaming gets detached too.
+
+    public <T> Stream<T> stream(Class<T> entityClass, Specification<T> specification) {
+        SpecificationQueryHints queryHints = new SpecificationQueryHints()
+                .setFetchSize(fetchSize)
+                .setReadOnly(readOnly)
+                .setTimeout(timeout);
+
+        TypedQuery<T> typedQuery = queryHints.apply(
+                SpecificationQueries.createQuery(entityManager, entityClass, specification),
+                specification
+        );
+
+        Stream<T> resultStream = typedQuery.getResultStream();
+        if (clearInterval <= 0) {
+            return resultStream;
+        }
+
+        ClearingSpliterator<T> spliterator = new ClearingSpliterator<>(
+                resultStream.spliterator(),
+                entityManager,
+                clearInterval
+        );
+
+        return StreamSupport
+                .stream(spliterator, false)
+                .onClose(resultStream::close);
+    }
+
+    // CLEARING SPLITERATOR
+
+    private static class ClearingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Spliterator<T> delegate;
+        private final EntityManager entityManager;
+        private final int clearInterval;
+
+        private final List<T> streamedElements;
+
+        private ClearingSpliterator(Spliterator<T> delegate, EntityManager entityManager, int clearInterval) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.delegate = delegate;
+            this.entityManager = entityManager;
+            this.clearInterval = clearInterval;
+            this.streamedElements = new ArrayList<>(clearInterval);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            // <!> Detaching happens before the next row is hydrated,
+            // <!> so the element handed to the action is always managed.
+            if (streamedElements.size() >= clearInterval) {
+                streamedElements.forEach(entityManager::detach);
+                streamedElements.clear();
+            }
+
+            return delegate.tryAdvance(element -> {
+                streamedElements.add(element);
+                action.accept(element);
+            });
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class StringMatching {
+
+    // <!> In-memory twins of lower(trim(value)) like '%pattern%' used by generated matchers.
+    // <!> Value is compared in place within its trimmed bounds via regionMatches, nothing is allocated
+    // <!> per evaluation. Pattern is expected to be trimmed & lower cased once, when the matcher is built.
+
+    public boolean containsIgnoreCase(String value, String lowerCasePattern) {
+        if (lowerCasePattern.isEmpty()) {
+            return true;
+        }
+
+        int start = trimmedStart(value);
+        int end = trimmedEnd(value);
+
+        // <!> Region comparison runs only at offsets where the first character matches
+        char firstChar = lowerCasePattern.charAt(0);
+        char firstUpperCaseChar = Character.toUpperCase(firstChar);
+
+        for (int offset = start; offset <= end - lowerCasePattern.length(); offset++) {
+            char valueChar = value.charAt(offset);
+
+            boolean isCandidate = valueChar == firstChar
+                    || valueChar == firstUpperCaseChar
+                    || Character.toLowerCase(valueChar) == firstChar;
+
+            if (isCandidate && value.regionMatches(true, offset, lowerCasePattern, 0, lowerCasePattern.length())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean startsWithIgnoreCase(String value, String lowerCasePattern) {
+        int start = trimmedStart(value);
+
+        return trimmedEnd(value) - start >= lowerCasePattern.length()
+                && value.regionMatches(true, start, lowerCasePattern, 0, lowerCasePattern.length());
+    }
+
+    public boolean endsWithIgnoreCase(String value, String lowerCasePattern) {
+        int start = trimmedStart(value);
+        int end = trimmedEnd(value);
+
+        return end - start >= lowerCasePattern.length()
+                && value.regionMatches(true, end - lowerCasePattern.length(), lowerCasePattern, 0, lowerCasePattern.length());
+    }
+
+    // UTILITY
+
+    // <!> Same bounds as String.trim(), characters up to space are whitespace
+
+    private static int trimmedStart(String value) {
+        int start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') {
+            start++;
+        }
+
+        return start;
+    }
+
+    private static int trimmedEnd(String value) {
+        int end = value.length();
+        while (end > 0 && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return end;
+    }
+}
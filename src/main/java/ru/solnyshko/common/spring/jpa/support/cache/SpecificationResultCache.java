@@ -0,0 +1,137 @@
+package ru.solnyshko.common.spring.jpa.support.cache;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.support.descriptor.SpecificationDescriptor;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// <!> Bounded result cache keyed by specification descriptors with TTL & FIFO size eviction.
+// <!> Every entry is queued once when created, uniform TTL keeps the queue ordered by expiration,
+// <!> so expired & replaced entries are purged from its head before size eviction.
+// <!> Concurrent identical queries are coalesced: one caller loads, the others wait for its result.
+// <!> Note: a loader must not request its own key, such re-entrant load fails with IllegalStateException
+// <!> instead of waiting for itself forever.
+// <!> Note: cached results are shared between callers and should be treated as read-only.
+
+public class SpecificationResultCache {
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+
+    private final ConcurrentMap<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public SpecificationResultCache(int maximumSize, Duration timeToLive) {
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    // <!> Qualifier tells apart different executions of one specification (Sort, Pageable, "count").
+    // <!> Specifications without value-based identity bypass the cache.
+
+    public <T, R> R get(Specification<T> specification, Object qualifier, Function<Specification<T>, R> loader) {
+        if (!SpecificationDescriptor.isValueBased(specification)) {
+            return loader.apply(specification);
+        }
+
+        Object key = Arrays.asList(specification, qualifier);
+        return get(key, () -> loader.apply(specification));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> R get(Object key, Supplier<R> loader) {
+        long nowNanos = System.nanoTime();
+        Entry entry = entries.compute(key, (entryKey, currentEntry) ->
+                currentEntry == null || currentEntry.isExpired(nowNanos)
+                        ? new Entry(entryKey, nowNanos + timeToLiveNanos)
+                        : currentEntry
+        );
+
+        if (entry.isLoadingClaimed.compareAndSet(false, true)) {
+            insertionOrder.add(entry);
+            evict(nowNanos);
+            load(key, entry, loader);
+        }
+
+        if (entry.loadingThread == Thread.currentThread()) {
+            throw new IllegalStateException("Re-entrant load of cache key " + key + " from its own loader");
+        }
+
+        try {
+            return (R) entry.result.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw exception;
+        }
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+        insertionOrder.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private <R> void load(Object key, Entry entry, Supplier<R> loader) {
+        entry.loadingThread = Thread.currentThread();
+
+        try {
+            entry.result.complete(loader.get());
+        } catch (RuntimeException | Error exception) {
+            // <!> Failures are not cached, waiting callers get the same exception
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(exception);
+        } finally {
+            entry.loadingThread = null;
+        }
+    }
+
+    private void evict(long nowNanos) {
+        Entry eldestEntry;
+        while ((eldestEntry = insertionOrder.peek()) != null) {
+            // <!> Entry is stale when its key was reloaded after expiration or its loading failed
+            boolean isStale = entries.get(eldestEntry.key) != eldestEntry;
+
+            if (!isStale && !eldestEntry.isExpired(nowNanos) && entries.size() <= maximumSize) {
+                return;
+            }
+
+            // <!> Removal by identity, so that concurrent evictions never drop an entry twice
+            if (insertionOrder.remove(eldestEntry)) {
+                entries.remove(eldestEntry.key, eldestEntry);
+            }
+        }
+    }
+
+    // ENTRY
+
+    private static class Entry {
+        private final Object key;
+        private final long expiresAtNanos;
+        private final AtomicBoolean isLoadingClaimed = new AtomicBoolean();
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile Thread loadingThread;
+
+        private Entry(Object key, long expiresAtNanos) {
+            this.key = key;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ru.solnyshko.common.spring.jpa.support.descriptor;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Getter;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.support.OptionalSpecifications;
+import ru.solnyshko.common.spring.jpa.support.metrics.NamedSpecification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// <!> Composition of specifications preserving identity of its operands.
+// <!> Nested compositions with the same operator are flattened: a.and(b).and(c) equals a.and(b.and(c)).
+
+@Getter
+public final class CompositeSpecificationDescriptor<T> implements NamedSpecification<T> {
+    private final Operator operator;
+    private final List<Specification<T>> operands;
+
+    private CompositeSpecificationDescriptor(Operator operator, List<Specification<T>> operands) {
+        this.operator = operator;
+        this.operands = operands;
+    }
+
+    static <T> Specification<T> compose(Operator operator, Specification<T> left, Specification<T> right) {
+        if (right == null || OptionalSpecifications.isNone(right)) {
+            return left;
+        }
+
+        List<Specification<T>> operands = new ArrayList<>();
+        addOperand(operands, operator, left);
+        addOperand(operands, operator, right);
+
+        return new CompositeSpecificationDescriptor<>(operator, Collections.unmodifiableList(operands));
+    }
+
+    private static <T> void addOperand(List<Specification<T>> operands, Operator operator, Specification<T> operand) {
+        if (operand instanceof CompositeSpecificationDescriptor<T> composite && composite.operator == operator) {
+            operands.addAll(composite.operands);
+        } else {
+            operands.add(operand);
+        }
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        List<Predicate> predicates = new ArrayList<>(operands.size());
+
+        for (Specification<T> operand : operands) {
+            Predicate predicate = operand.toPredicate(root, query, criteriaBuilder);
+
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+
+        if (predicates.isEmpty()) {
+            return null;
+        }
+
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+
+        Predicate[] predicatesArray = predicates.toArray(Predicate[]::new);
+        return operator == Operator.AND
+                ? criteriaBuilder.and(predicatesArray)
+                : criteriaBuilder.or(predicatesArray);
+    }
+
+    @Override
+    public Specification<T> and(Specification<T> other) {
+        return compose(Operator.AND, this, other);
+    }
+
+    @Override
+    public Specification<T> or(Specification<T> other) {
+        return compose(Operator.OR, this, other);
+    }
+
+    @Override
+    public String getName() {
+        String joinedNames = operands.stream()
+                .map(NamedSpecification::nameOf)
+                .collect(Collectors.joining(operator.separator));
+
+        return operator == Operator.OR ? "(" + joinedNames + ")" : joinedNames;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof CompositeSpecificationDescriptor<?> composite)) {
+            return false;
+        }
+
+        return operator == composite.operator && operands.equals(composite.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, operands);
+    }
+
+    @Override
+    public String toString() {
+        String joinedOperands = operands.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(operator.separator));
+
+        return "(" + joinedOperands + ")";
+    }
+
+    // OPERATOR
+
+    public enum Operator {
+        AND(" and "),
+        OR(" or ");
+
+        private final String separator;
+
+        Operator(String separator) {
+            this.separator = separator;
+        }
+    }
+}
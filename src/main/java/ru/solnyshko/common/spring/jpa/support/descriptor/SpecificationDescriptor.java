@@ -0,0 +1,179 @@
+package ru.solnyshko.common.spring.jpa.support.descriptor;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Getter;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.support.metrics.NamedSpecification;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// <!> Immutable value describing a generated filter: equal descriptors render equal queries.
+// <!> Delegate is excluded from equality, name & arguments fully define the predicate.
+// <!> Simple filters also carry a JPQL fragment ("e.field = ?") used by PrecompiledSpecificationExecutor.
+
+public final class SpecificationDescriptor<T> implements NamedSpecification<T> {
+    @Getter
+    private final String name;
+    @Getter
+    private final List<Object> arguments;
+    @Getter
+    private final String jpqlFragment;
+    private final Specification<T> delegate;
+
+    private SpecificationDescriptor(
+            String name,
+            List<Object> arguments,
+            String jpqlFragment,
+            Specification<T> delegate
+    ) {
+        this.name = name;
+        this.arguments = arguments;
+        this.jpqlFragment = jpqlFragment;
+        this.delegate = delegate;
+    }
+
+    public static <T> SpecificationDescriptor<T> of(
+            String name,
+            Object[] arguments,
+            Function<Object[], Specification<T>> delegateFactory
+    ) {
+        return of(name, arguments, null, delegateFactory);
+    }
+
+    // <!> Delegate is built from copies of the arguments, the same ones that define equality,
+    // <!> so that later mutation of caller's collection or array changes neither the key nor the predicate.
+
+    public static <T> SpecificationDescriptor<T> of(
+            String name,
+            Object[] arguments,
+            String jpqlFragment,
+            Function<Object[], Specification<T>> delegateFactory
+    ) {
+        Object[] copiedArguments = new Object[arguments.length];
+        List<Object> normalizedArguments = new ArrayList<>(arguments.length);
+
+        for (int i = 0; i < arguments.length; i++) {
+            copiedArguments[i] = copyArgument(arguments[i]);
+            normalizedArguments.add(normalizeArgument(copiedArguments[i]));
+        }
+
+        return new SpecificationDescriptor<>(
+                name,
+                Collections.unmodifiableList(normalizedArguments),
+                jpqlFragment,
+                delegateFactory.apply(copiedArguments)
+        );
+    }
+
+    // <!> Typed access to copied arguments for delegate factories of generated code.
+
+    @SuppressWarnings("unchecked")
+    public static <A> A argument(Object[] arguments, int index) {
+        return (A) arguments[index];
+    }
+
+    // <!> Only compositions of descriptors have stable identity, lambdas are compared by reference.
+
+    public static boolean isValueBased(Specification<?> specification) {
+        if (specification instanceof SpecificationDescriptor<?>) {
+            return true;
+        }
+
+        if (specification instanceof CompositeSpecificationDescriptor<?> composite) {
+            return composite.getOperands().stream().allMatch(SpecificationDescriptor::isValueBased);
+        }
+
+        return false;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return delegate.toPredicate(root, query, criteriaBuilder);
+    }
+
+    @Override
+    public Specification<T> and(Specification<T> other) {
+        return CompositeSpecificationDescriptor.compose(CompositeSpecificationDescriptor.Operator.AND, this, other);
+    }
+
+    @Override
+    public Specification<T> or(Specification<T> other) {
+        return CompositeSpecificationDescriptor.compose(CompositeSpecificationDescriptor.Operator.OR, this, other);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof SpecificationDescriptor<?> descriptor)) {
+            return false;
+        }
+
+        return name.equals(descriptor.name) && arguments.equals(descriptor.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, arguments);
+    }
+
+    @Override
+    public String toString() {
+        return arguments.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", ", name + "(", ")"));
+    }
+
+    // <!> Arrays & collections are copied, copies keep declared type of the argument (array, Set or List).
+
+    private static Object copyArgument(Object argument) {
+        if (argument != null && argument.getClass().isArray()) {
+            int length = Array.getLength(argument);
+            Object copy = Array.newInstance(argument.getClass().getComponentType(), length);
+
+            System.arraycopy(argument, 0, copy, 0, length);
+            return copy;
+        }
+
+        if (argument instanceof Set<?> set) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+        }
+
+        if (argument instanceof Collection<?> collection) {
+            return Collections.unmodifiableList(new ArrayList<>(collection));
+        }
+
+        return argument;
+    }
+
+    // <!> Arrays are compared by content, so they are turned into lists.
+
+    private static Object normalizeArgument(Object argument) {
+        if (argument != null && argument.getClass().isArray()) {
+            int length = Array.getLength(argument);
+            List<Object> elements = new ArrayList<>(length);
+
+            for (int i = 0; i < length; i++) {
+                elements.add(normalizeArgument(Array.get(argument, i)));
+            }
+
+            return Collections.unmodifiableList(elements);
+        }
+
+        return argument;
+    }
+}
@@ -0,0 +1,31 @@
+package ru.solnyshko.common.spring.jpa.support.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class JsonLoggingSpecificationMetricsExporter implements SpecificationMetricsExporter {
+
+    @Override
+    public void export(List<SpecificationStatistics.Snapshot> snapshots) {
+        for (SpecificationStatistics.Snapshot snapshot : snapshots) {
+            log.info(toJson(snapshot));
+        }
+    }
+
+    public static String toJson(SpecificationStatistics.Snapshot snapshot) {
+        return String.format("" +
+                        "{\"specification\":\"%s\",\"executions\":%d,\"rows\":%d," +
+                        "\"meanMicros\":%d,\"p50Micros\":%d,\"p99Micros\":%d,\"maxMicros\":%d}",
+                snapshot.name().replace("\\", "\\\\").replace("\"", "\\\""),
+                snapshot.executions(),
+                snapshot.rows(),
+                TimeUnit.NANOSECONDS.toMicros(snapshot.getMeanNanos()),
+                snapshot.getPercentileMicros(0.5),
+                snapshot.getPercentileMicros(0.99),
+                TimeUnit.NANOSECONDS.toMicros(snapshot.maxNanos())
+        );
+    }
+}
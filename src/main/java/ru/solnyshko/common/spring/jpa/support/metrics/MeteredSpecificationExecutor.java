@@ -0,0 +1,44 @@
+package ru.solnyshko.common.spring.jpa.support.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+@RequiredArgsConstructor
+public class MeteredSpecificationExecutor {
+    private final SpecificationMetrics metrics;
+
+    public <T> List<T> findAll(JpaSpecificationExecutor<T> repository, Specification<T> specification) {
+        return measure(specification, () -> repository.findAll(specification), List::size);
+    }
+
+    public <T> List<T> findAll(JpaSpecificationExecutor<T> repository, Specification<T> specification, Sort sort) {
+        return measure(specification, () -> repository.findAll(specification, sort), List::size);
+    }
+
+    public <T> Page<T> findAll(JpaSpecificationExecutor<T> repository, Specification<T> specification, Pageable pageable) {
+        return measure(specification, () -> repository.findAll(specification, pageable), Page::getNumberOfElements);
+    }
+
+    // <!> Count query loads no entities, so it is recorded with 0 rows and only affects executions & latency.
+
+    public <T> long count(JpaSpecificationExecutor<T> repository, Specification<T> specification) {
+        return measure(specification, () -> repository.count(specification), count -> 0);
+    }
+
+    public <R> R measure(Specification<?> specification, Supplier<R> execution, ToLongFunction<R> rowCounter) {
+        long startNanos = System.nanoTime();
+        R result = execution.get();
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        metrics.record(specification, elapsedNanos, rowCounter.applyAsLong(result));
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package ru.solnyshko.common.spring.jpa.support.metrics;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public interface NamedSpecification<T> extends Specification<T> {
+
+    String getName();
+
+    static String nameOf(Specification<?> specification) {
+        if (specification == null) {
+            return "none";
+        }
+
+        if (specification instanceof NamedSpecification<?> namedSpecification) {
+            return namedSpecification.getName();
+        }
+
+        return "untagged";
+    }
+}
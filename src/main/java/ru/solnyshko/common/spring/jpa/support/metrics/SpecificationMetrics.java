@@ -0,0 +1,31 @@
+package ru.solnyshko.common.spring.jpa.support.metrics;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class SpecificationMetrics {
+    private final ConcurrentMap<String, SpecificationStatistics> statistics = new ConcurrentHashMap<>();
+
+    public void record(Specification<?> specification, long elapsedNanos, long rowCount) {
+        record(NamedSpecification.nameOf(specification), elapsedNanos, rowCount);
+    }
+
+    public void record(String name, long elapsedNanos, long rowCount) {
+        statistics
+                .computeIfAbsent(name, SpecificationStatistics::new)
+                .record(elapsedNanos, rowCount);
+    }
+
+    public List<SpecificationStatistics.Snapshot> snapshot() {
+        return statistics.values().stream()
+                .map(SpecificationStatistics::snapshot)
+                .toList();
+    }
+
+    public void export(SpecificationMetricsExporter exporter) {
+        exporter.export(snapshot());
+    }
+}
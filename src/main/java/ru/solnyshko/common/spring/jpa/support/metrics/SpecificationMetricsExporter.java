@@ -0,0 +1,9 @@
+package ru.solnyshko.common.spring.jpa.support.metrics;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface SpecificationMetricsExporter {
+
+    void export(List<SpecificationStatistics.Snapshot> snapshots);
+}
@@ -0,0 +1,86 @@
+package ru.solnyshko.common.spring.jpa.support.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SpecificationStatistics {
+    // <!> Bucket i counts executions that took less than 2^i microseconds, the last one is unbounded.
+    public static final int BUCKET_COUNT = 32;
+
+    private final String name;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKET_COUNT);
+
+    SpecificationStatistics(String name) {
+        this.name = name;
+    }
+
+    void record(long elapsedNanos, long rowCount) {
+        executions.increment();
+        rows.add(rowCount);
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        latencyBuckets.incrementAndGet(getBucketIndex(elapsedNanos));
+    }
+
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = latencyBuckets.get(i);
+        }
+
+        return new Snapshot(
+                name,
+                executions.sum(),
+                rows.sum(),
+                totalNanos.sum(),
+                maxNanos.get(),
+                buckets
+        );
+    }
+
+    private static int getBucketIndex(long elapsedNanos) {
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+        int bucketIndex = 64 - Long.numberOfLeadingZeros(elapsedMicros);
+        return Math.min(bucketIndex, BUCKET_COUNT - 1);
+    }
+
+    // SNAPSHOT
+
+    public record Snapshot(
+            String name,
+            long executions,
+            long rows,
+            long totalNanos,
+            long maxNanos,
+            long[] latencyBuckets
+    ) {
+
+        public long getMeanNanos() {
+            return executions == 0 ? 0 : totalNanos / executions;
+        }
+
+        // <!> Percentiles are upper bounds of histogram buckets, precise to a power of two.
+
+        public long getPercentileMicros(double percentile) {
+            long threshold = (long) Math.ceil(executions * percentile);
+            long accumulated = 0;
+
+            for (int i = 0; i < latencyBuckets.length; i++) {
+                accumulated += latencyBuckets[i];
+
+                if (accumulated >= threshold && accumulated != 0) {
+                    return 1L << i;
+                }
+            }
+
+            return TimeUnit.NANOSECONDS.toMicros(maxNanos);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ru.solnyshko.common.spring.jpa.support.metrics;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.support.OptionalSpecifications;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaggedSpecification<T> implements NamedSpecification<T> {
+    @Getter
+    private final String name;
+    private final Specification<T> delegate;
+
+    public static <T> TaggedSpecification<T> tag(String name, Specification<T> specification) {
+        return new TaggedSpecification<>(name, specification);
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return delegate.toPredicate(root, query, criteriaBuilder);
+    }
+
+    // <!> Composition keeps the tag so that a combination of filters is recorded under one name.
+
+    @Override
+    public Specification<T> and(Specification<T> other) {
+        if (OptionalSpecifications.isNone(other)) {
+            return this;
+        }
+
+        String composedName = name + " and " + NamedSpecification.nameOf(other);
+        return tag(composedName, NamedSpecification.super.and(other));
+    }
+
+    @Override
+    public Specification<T> or(Specification<T> other) {
+        if (OptionalSpecifications.isNone(other)) {
+            return this;
+        }
+
+        String composedName = "(" + name + " or " + NamedSpecification.nameOf(other) + ")";
+        return tag(composedName, NamedSpecification.super.or(other));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
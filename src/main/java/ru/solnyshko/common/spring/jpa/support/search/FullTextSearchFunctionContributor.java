@@ -0,0 +1,58 @@
+package ru.solnyshko.common.spring.jpa.support.search;
+
+import com.google.auto.service.AutoService;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+@AutoService(FunctionContributor.class)
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+    // <!> ?1 - text search configuration (e.g. 'english', 'simple'), ?2 - attribute, ?3 - search text
+    // <!> Document is rendered as to_tsvector('english'::regconfig, description) once the literal cast is folded,
+    // <!> so it matches an expression index created as to_tsvector('english', description).
+
+    private static final String POSTGRESQL_DOCUMENT = "to_tsvector(cast(?1 as regconfig), ?2)";
+    private static final String POSTGRESQL_QUERY = "plainto_tsquery(cast(?1 as regconfig), ?3)";
+
+    private static final String POSTGRESQL_MATCH_PATTERN = POSTGRESQL_DOCUMENT + " @@ " + POSTGRESQL_QUERY;
+    private static final String POSTGRESQL_RANK_PATTERN = "ts_rank(" + POSTGRESQL_DOCUMENT + ", " + POSTGRESQL_QUERY + ")";
+
+    // <!> Full-text search is a PostgreSQL feature. Fallback of other dialects is functional only:
+    // <!> substring semantics & full scan cost of generated like specifications, no full-text or trigram index
+    // <!> is used. It keeps full-text specifications runnable on embedded databases (e.g. H2) in tests.
+
+    private static final String FALLBACK_MATCH_PATTERN = "lower(?2) like concat('%', lower(trim(?3)), '%')";
+    private static final String FALLBACK_RANK_PATTERN = "" +
+            "case when lower(?2) like concat('%', lower(trim(?3)), '%') " +
+            "then 1.0 / (length(?2) + 1) else 0.0 end";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
+        BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        Dialect dialect = functionContributions.getServiceRegistry()
+                .requireService(JdbcServices.class)
+                .getDialect();
+
+        boolean isPostgreSQL = dialect instanceof PostgreSQLDialect;
+
+        functionRegistry.registerPattern(
+                FullTextSearches.MATCH_FUNCTION,
+                isPostgreSQL ? POSTGRESQL_MATCH_PATTERN : FALLBACK_MATCH_PATTERN,
+                basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+        );
+
+        functionRegistry.registerPattern(
+                FullTextSearches.RANK_FUNCTION,
+                isPostgreSQL ? POSTGRESQL_RANK_PATTERN : FALLBACK_RANK_PATTERN,
+                basicTypeRegistry.resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
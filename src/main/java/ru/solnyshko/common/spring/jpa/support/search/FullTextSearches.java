@@ -0,0 +1,71 @@
+package ru.solnyshko.common.spring.jpa.support.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import lombok.experimental.UtilityClass;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+@UtilityClass
+public class FullTextSearches {
+
+    public static final String MATCH_FUNCTION = "fts_match";
+    public static final String RANK_FUNCTION = "fts_rank";
+
+    // <!> Functions are registered by FullTextSearchFunctionContributor:
+    // <!> to_tsvector @@ plainto_tsquery on PostgreSQL, functional only lower() like fallback on other dialects.
+    // <!> Search text is bound as a JDBC parameter, configuration stays a literal so that expression indexes match.
+
+    public Predicate matches(
+            CriteriaBuilder cb,
+            Expression<String> attribute,
+            String configuration,
+            String text
+    ) {
+        return cb.isTrue(cb.function(
+                MATCH_FUNCTION,
+                Boolean.class,
+                cb.literal(configuration),
+                attribute,
+                bind(cb, text)
+        ));
+    }
+
+    public Expression<Double> rank(
+            CriteriaBuilder cb,
+            Expression<String> attribute,
+            String configuration,
+            String text
+    ) {
+        return cb.function(
+                RANK_FUNCTION,
+                Double.class,
+                cb.literal(configuration),
+                attribute,
+                bind(cb, text)
+        );
+    }
+
+    // <!> Count queries (Long result) are left unordered, ordering there is rejected by some databases.
+
+    public Predicate matchesOrderedByRank(
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            Expression<String> attribute,
+            String configuration,
+            String text
+    ) {
+        if (query != null && !Long.class.equals(query.getResultType())) {
+            query.orderBy(cb.desc(rank(cb, attribute, configuration, text)));
+        }
+
+        return matches(cb, attribute, configuration, text);
+    }
+
+    // UTILITY
+
+    private Expression<String> bind(CriteriaBuilder cb, String text) {
+        return ((HibernateCriteriaBuilder) cb).value(text);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.solnyshko.common.spring.jpa;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class TestApplication {
+}
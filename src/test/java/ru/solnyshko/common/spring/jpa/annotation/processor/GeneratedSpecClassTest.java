@@ -0,0 +1,39 @@
+package ru.solnyshko.common.spring.jpa.annotation.processor;
+
+import org.junit.jupiter.api.Test;
+import ru.solnyshko.common.spring.jpa.entity.CounterSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratedSpecClassTest {
+
+    @Test
+    void specClassesAreFinalWithPrivateConstructorAndStaticMethods() {
+        for (Class<?> specClass : new Class<?>[]{PaymentSpec.class, CounterSpec.class}) {
+            assertThat(Modifier.isFinal(specClass.getModifiers())).as(specClass + " is final").isTrue();
+
+            Constructor<?>[] constructors = specClass.getDeclaredConstructors();
+            assertThat(constructors).hasSize(1);
+            assertThat(Modifier.isPrivate(constructors[0].getModifiers())).isTrue();
+
+            assertThat(Arrays.stream(specClass.getDeclaredMethods()).filter(method -> !method.isSynthetic()))
+                    .isNotEmpty()
+                    .allMatch(method -> Modifier.isStatic(method.getModifiers()), "static");
+        }
+    }
+
+    @Test
+    void specClassesDoNotDependOnLombok() {
+        assertThat(PaymentSpec.class.getAnnotations())
+                .noneMatch(annotation -> annotation.annotationType().getName().startsWith("lombok"));
+
+        assertThat(Arrays.stream(PaymentSpec.class.getDeclaredMethods()).map(Method::getName))
+                .contains("statusEq", "statusEqIfPresent");
+    }
+}
@@ -0,0 +1,172 @@
+package ru.solnyshko.common.spring.jpa.annotation.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// <!> Generated sources are compiled with javac for every option combination, so code which doesn't compile
+// <!> (e.g. matchers of primitive fields) fails here rather than in consumer builds.
+
+class ProcessorCompilationTest {
+    private static final String ENTITY_NAME = "sample.Gauge";
+    private static final int SYNTHETIC_ENTITY_COUNT = 20;
+
+    private static final String ENTITY_SOURCE = """
+            package sample;
+
+            import jakarta.persistence.Entity;
+            import jakarta.persistence.EnumType;
+            import jakarta.persistence.Enumerated;
+            import jakarta.persistence.Id;
+
+            import java.time.LocalDate;
+            import java.time.LocalDateTime;
+
+            @Entity
+            public class Gauge {
+                public enum Kind { SMALL, LARGE }
+
+                @Id private Long id;
+                private byte level;
+                private short step;
+                private int hits;
+                private long total;
+                private float weight;
+                private double ratio;
+                private char grade;
+                private boolean isEnabled;
+                private long ownerId;
+                private Integer boxedHits;
+                private Character boxedGrade;
+                private Boolean isVisible;
+                private String name;
+                @Enumerated(EnumType.STRING) private Kind kind;
+                private LocalDate day;
+                private LocalDateTime createdAt;
+
+                public Long getId() { return id; }
+                public byte getLevel() { return level; }
+                public short getStep() { return step; }
+                public int getHits() { return hits; }
+                public long getTotal() { return total; }
+                public float getWeight() { return weight; }
+                public double getRatio() { return ratio; }
+                public char getGrade() { return grade; }
+                public boolean isEnabled() { return isEnabled; }
+                public long getOwnerId() { return ownerId; }
+                public Integer getBoxedHits() { return boxedHits; }
+                public Character getBoxedGrade() { return boxedGrade; }
+                public Boolean getIsVisible() { return isVisible; }
+                public String getName() { return name; }
+                public Kind getKind() { return kind; }
+                public LocalDate getDay() { return day; }
+                public LocalDateTime getCreatedAt() { return createdAt; }
+            }
+            """;
+
+    @TempDir
+    private Path outputDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "-Aspecgen.matchers=true",
+            "-Aspecgen.metrics=true",
+            "-Aspecgen.matchers=true -Aspecgen.metrics=true -Aspecgen.descriptors=true -Aspecgen.aggregates=true"
+    })
+    void compilesGeneratedSourcesOfEntityWithPrimitiveFields(String processorOptions) {
+        compile(processorOptions);
+
+        assertThat(Files.exists(outputDir.resolve("sample/GaugeSpec.class"))).isTrue();
+    }
+
+    @Test
+    void writesIndexReportWithFilterMethodsOfEveryField() throws Exception {
+        compile("-Aspecgen.indexReport=true");
+
+        Path reportPath = outputDir.resolve("META-INF/spec-index-reports/sample.GaugeSpec.txt");
+        assertThat(Files.readString(reportPath)).contains("hitsEq", "ownerIdIn", "createdAtInRange");
+    }
+
+    // <!> Spec classes are plain Java, so a large module is generated & compiled in a single processing round
+    // <!> with only this processor on the path (no Lombok round in consumer projects).
+    // <!> Compile time of a 500 entities module is measured by ProcessorCompilationBenchmark.
+
+    @Test
+    void compilesModuleOfManyEntitiesWithoutLombok() {
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        for (int i = 0; i < SYNTHETIC_ENTITY_COUNT; i++) {
+            String entityName = "Gauge" + i;
+            sourceFiles.add(new SourceFile("sample." + entityName, ENTITY_SOURCE.replace("Gauge", entityName)));
+        }
+
+        compile("", sourceFiles);
+
+        assertThat(Files.exists(outputDir.resolve("sample/Gauge" + (SYNTHETIC_ENTITY_COUNT - 1) + "Spec.class"))).isTrue();
+    }
+
+    private void compile(String processorOptions) {
+        compile(processorOptions, List.of(new SourceFile(ENTITY_NAME, ENTITY_SOURCE)));
+    }
+
+    private void compile(String processorOptions, List<SourceFile> sourceFiles) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        List<String> options = new ArrayList<>(List.of(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDir.toString(),
+                "-s", outputDir.toString()
+        ));
+        Arrays.stream(processorOptions.split(" "))
+                .filter(option -> !option.isBlank())
+                .forEach(options::add);
+
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                null,
+                diagnostics,
+                options,
+                null,
+                sourceFiles
+        );
+        task.setProcessors(List.of(new SimpleSpecificationGenerator()));
+
+        boolean isCompiled = task.call();
+
+        assertThat(diagnostics.getDiagnostics())
+                .filteredOn(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .isEmpty();
+        assertThat(isCompiled).isTrue();
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        private SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ru.solnyshko.common.spring.jpa.entity;
+
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Embeddable
+public class Address {
+    private String city;
+
+    private String street;
+}
@@ -0,0 +1,30 @@
+package ru.solnyshko.common.spring.jpa.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// <!> Primitive fields of every category, generated matchers of these are compiled by the test build
+
+@Getter
+@Setter
+@Entity
+@Table(name = "counters")
+public class Counter {
+    @Id
+    private Long id;
+
+    private int hits;
+
+    private long total;
+
+    private char grade;
+
+    private double ratio;
+
+    private boolean isEnabled;
+
+    private long ownerId;
+}
@@ -0,0 +1,34 @@
+package ru.solnyshko.common.spring.jpa.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "customers")
+public class Customer {
+    @Id
+    private Long id;
+
+    @Embedded
+    private Address address;
+
+    @ElementCollection
+    @CollectionTable(name = "customer_tags", joinColumns = @JoinColumn(name = "customer_id"))
+    private Set<String> tags = new HashSet<>();
+
+    @ElementCollection
+    @CollectionTable(name = "customer_phones", joinColumns = @JoinColumn(name = "customer_id"))
+    private Set<Phone> phones = new HashSet<>();
+}
@@ -0,0 +1,42 @@
+package ru.solnyshko.common.spring.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import ru.solnyshko.common.spring.jpa.annotation.FullTextSearch;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "payments", indexes = {
+        @Index(columnList = "customer_id, created_at"),
+        @Index(columnList = "created_at, id")
+})
+public class Payment {
+    @Id
+    private Long id;
+
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus status;
+
+    private Double amount;
+
+    @FullTextSearch(configuration = "english")
+    private String comment;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    private boolean isArchived;
+}
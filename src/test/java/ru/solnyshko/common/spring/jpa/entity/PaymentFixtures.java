@@ -0,0 +1,20 @@
+package ru.solnyshko.common.spring.jpa.entity;
+
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class PaymentFixtures {
+
+    // <!> Payment x: customer x % 100, even ids are PAID, odd are NEW, every 10th is archived,
+    // <!> amount x and created x hours after 2020-01-01.
+
+    public void insertPayments(EntityManager entityManager, int count) {
+        entityManager.createNativeQuery("""
+                insert into payments (id, customer_id, status, amount, comment, created_at, is_archived)
+                select x, mod(x, 100), case when mod(x, 2) = 0 then 'PAID' else 'NEW' end,
+                       x, 'payment ' || x, dateadd('HOUR', x, timestamp '2020-01-01 00:00:00'), mod(x, 10) = 0
+                from system_range(1, :count)
+                """).setParameter("count", count).executeUpdate();
+    }
+}
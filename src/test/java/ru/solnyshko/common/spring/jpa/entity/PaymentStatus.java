@@ -0,0 +1,7 @@
+package ru.solnyshko.common.spring.jpa.entity;
+
+public enum PaymentStatus {
+    NEW,
+    PAID,
+    REFUNDED
+}
@@ -0,0 +1,14 @@
+package ru.solnyshko.common.spring.jpa.entity;
+
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Embeddable
+public class Phone {
+    private String kind;
+
+    private String number;
+}
@@ -0,0 +1,132 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// <!> Executor queries run on their own connections, so rows are committed instead of being rolled back with the test
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConcurrentPageExecutorTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(2);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                PaymentFixtures.insertPayments(entityManager, 1000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.createQuery("delete from Payment").executeUpdate());
+    }
+
+    @Test
+    void returnsExactTotalInEveryCountMode() {
+        for (ConcurrentPageExecutor.CountMode countMode : new ConcurrentPageExecutor.CountMode[]{
+                ConcurrentPageExecutor.CountMode.EXACT,
+                ConcurrentPageExecutor.CountMode.SKIP_WHEN_SHORT
+        }) {
+            ConcurrentPageExecutor executor = new ConcurrentPageExecutor(entityManagerFactory, executorService)
+                    .setCountMode(countMode);
+
+            Page<Payment> fullPage = executor.findAll(Payment.class, PaymentSpec.statusEq(PaymentStatus.PAID), PageRequest.of(1, 100, Sort.by("id")));
+            Page<Payment> emptyPage = executor.findAll(Payment.class, PaymentSpec.statusEq(PaymentStatus.PAID), PageRequest.of(9, 100, Sort.by("id")));
+
+            assertThat(fullPage.getContent()).hasSize(100);
+            assertThat(fullPage.getTotalElements()).isEqualTo(500);
+            assertThat(emptyPage.getContent()).isEmpty();
+            assertThat(emptyPage.getTotalElements()).isEqualTo(500);
+        }
+    }
+
+    // <!> Both tasks wait for each other before querying, so the page completes only when they are in flight together
+
+    @Test
+    void runsContentAndCountQueriesConcurrently() {
+        CyclicBarrier bothStarted = new CyclicBarrier(2);
+        AtomicBoolean isOverlapping = new AtomicBoolean(true);
+
+        Executor barrierExecutor = task -> executorService.execute(() -> {
+            try {
+                bothStarted.await(5, TimeUnit.SECONDS);
+            } catch (Exception exception) {
+                isOverlapping.set(false);
+            }
+
+            task.run();
+        });
+
+        ConcurrentPageExecutor executor = new ConcurrentPageExecutor(entityManagerFactory, barrierExecutor);
+        Page<Payment> page = executor.findAll(Payment.class, PaymentSpec.statusEq(PaymentStatus.PAID), PageRequest.of(1, 100, Sort.by("id")));
+
+        assertThat(isOverlapping).isTrue();
+        assertThat(page.getContent()).hasSize(100);
+        assertThat(page.getTotalElements()).isEqualTo(500);
+    }
+
+    @Test
+    void estimatesTotalWithOneRowLookahead() {
+        ConcurrentPageExecutor executor = new ConcurrentPageExecutor(entityManagerFactory, executorService)
+                .setCountMode(ConcurrentPageExecutor.CountMode.ESTIMATED);
+
+        Page<Payment> page = executor.findAll(Payment.class, null, PageRequest.of(0, 100, Sort.by("id")));
+
+        assertThat(page.getContent()).hasSize(100);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(101);
+    }
+
+    @Test
+    void returnsDetachedEntitiesAndLeavesPooledConnectionsWritable() {
+        ConcurrentPageExecutor executor = new ConcurrentPageExecutor(entityManagerFactory, executorService);
+
+        Page<Payment> page = executor.findAll(Payment.class, PaymentSpec.customerIdEq(1L), PageRequest.of(0, 5));
+
+        assertThat(page.getContent()).isNotEmpty().noneMatch(entityManager::contains);
+
+        int updated = new TransactionTemplate(transactionManager).execute(status -> entityManager
+                .createQuery("update Payment set comment = 'updated' where customerId = 1")
+                .executeUpdate());
+
+        assertThat(updated).isEqualTo(10);
+    }
+}
@@ -0,0 +1,81 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.solnyshko.common.spring.jpa.entity.Address;
+import ru.solnyshko.common.spring.jpa.entity.Customer;
+import ru.solnyshko.common.spring.jpa.entity.CustomerSpec;
+import ru.solnyshko.common.spring.jpa.support.sql.CapturingStatementInspector;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ElementCollectionPredicatesTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        persistCustomer(1L, "Berlin", "vip", "b2b");
+        persistCustomer(2L, "Berlin", "b2c");
+        persistCustomer(3L, "Paris", "vip");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void containsAnyMatchesWithoutSecondEntityTable() {
+        List<Customer> customers = new ArrayList<>();
+
+        List<String> statements = CapturingStatementInspector.capture(() -> customers.addAll(SpecificationQueries
+                .createQuery(
+                        entityManager,
+                        Customer.class,
+                        CustomerSpec.addressCityEq("Berlin").and(CustomerSpec.tagsContainsAny(List.of("vip", "b2b")))
+                )
+                .getResultList()));
+
+        assertThat(customers).extracting(Customer::getId).containsExactly(1L);
+        assertThat(statements).singleElement().asString()
+                .contains("exists")
+                .containsOnlyOnce("from customers");
+    }
+
+    @Test
+    void containsNoneExcludesMatchingRows() {
+        List<Customer> customers = SpecificationQueries
+                .createQuery(entityManager, Customer.class, CustomerSpec.tagsContainsNone(List.of("vip")))
+                .getResultList();
+
+        assertThat(customers).extracting(Customer::getId).containsExactly(2L);
+    }
+
+    @Test
+    void embeddableElementCollectionsGetNoContainsFilters() {
+        assertThat(Arrays.stream(CustomerSpec.class.getDeclaredMethods()).map(Method::getName))
+                .contains("tagsContainsAny")
+                .noneMatch(name -> name.startsWith("phonesContains"));
+    }
+
+    private void persistCustomer(Long id, String city, String... tags) {
+        Address address = new Address();
+        address.setCity(city);
+
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setAddress(address);
+        customer.setTags(Set.of(tags));
+
+        entityManager.persist(customer);
+    }
+}
@@ -0,0 +1,101 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.entity.Counter;
+import ru.solnyshko.common.spring.jpa.entity.CounterSpec;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class GroupwisePredicatesTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        PaymentFixtures.insertPayments(entityManager, 1000);
+    }
+
+    @Test
+    void namesRankingFieldInMethods() {
+        assertThat(Arrays.stream(PaymentSpec.class.getDeclaredMethods()).map(Method::getName))
+                .contains("latestByCustomerIdOrderByCreatedAt", "topByCustomerIdOrderByCreatedAt")
+                .doesNotContain("latestByCustomerId", "topByCustomerId");
+
+        assertThat(Arrays.stream(CounterSpec.class.getDeclaredMethods()).map(Method::getName))
+                .contains("latestByOwnerIdOrderById", "topByOwnerIdOrderById");
+    }
+
+    @Test
+    void keepsLatestRowPerGroup() {
+        List<Payment> payments = findAll(PaymentSpec.latestByCustomerIdOrderByCreatedAt()
+                .and(PaymentSpec.customerIdEq(7L)));
+
+        assertThat(payments).extracting(Payment::getId).containsExactly(907L);
+    }
+
+    @Test
+    void keepsTopRowsPerGroup() {
+        List<Payment> payments = findAll(PaymentSpec.topByCustomerIdOrderByCreatedAt(3)
+                .and(PaymentSpec.customerIdEq(7L)));
+
+        assertThat(payments).extracting(Payment::getId).containsExactlyInAnyOrder(707L, 807L, 907L);
+    }
+
+    @Test
+    void appliesOtherFiltersAfterRanking() {
+        // <!> Latest row of customer 7 is NEW, so PAID filter leaves nothing instead of the latest PAID row
+        List<Payment> payments = findAll(PaymentSpec.latestByCustomerIdOrderByCreatedAt()
+                .and(PaymentSpec.customerIdEq(7L))
+                .and(PaymentSpec.statusEq(PaymentStatus.PAID)));
+
+        assertThat(payments).isEmpty();
+    }
+
+    @Test
+    void skipsRowsWithoutGroup() {
+        entityManager.createNativeQuery("update payments set customer_id = null where id > 990").executeUpdate();
+
+        List<Payment> latestPayments = findAll(PaymentSpec.latestByCustomerIdOrderByCreatedAt());
+        List<Payment> topPayments = findAll(PaymentSpec.topByCustomerIdOrderByCreatedAt(3));
+
+        assertThat(latestPayments).hasSize(100).extracting(Payment::getCustomerId).doesNotContainNull();
+        assertThat(topPayments).hasSize(300).extracting(Payment::getCustomerId).doesNotContainNull();
+    }
+
+    @Test
+    void ranksByPrimaryIdWithoutTemporalFields() {
+        Counter first = new Counter();
+        first.setId(1L);
+        first.setOwnerId(1L);
+        Counter second = new Counter();
+        second.setId(2L);
+        second.setOwnerId(1L);
+        entityManager.persist(first);
+        entityManager.persist(second);
+
+        List<Counter> counters = SpecificationQueries
+                .createQuery(entityManager, Counter.class, CounterSpec.latestByOwnerIdOrderById())
+                .getResultList();
+
+        assertThat(counters).extracting(Counter::getId).containsExactly(2L);
+    }
+
+    private List<Payment> findAll(Specification<Payment> specification) {
+        return SpecificationQueries.createQuery(entityManager, Payment.class, specification).getResultList();
+    }
+}
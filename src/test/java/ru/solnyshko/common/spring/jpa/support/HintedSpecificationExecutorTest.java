@@ -0,0 +1,78 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+import ru.solnyshko.common.spring.jpa.support.sql.CapturingStatementInspector;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class HintedSpecificationExecutorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private HintedSpecificationExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        PaymentFixtures.insertPayments(entityManager, 1000);
+        executor = new HintedSpecificationExecutor(entityManager, SpecificationQueryHints.readOnly());
+    }
+
+    @Test
+    void countsTotalForFullPage() {
+        AtomicReference<Page<Payment>> page = new AtomicReference<>();
+
+        List<String> statements = CapturingStatementInspector.capture(() -> page.set(executor.findAll(
+                Payment.class,
+                PaymentSpec.statusEq(PaymentStatus.PAID),
+                PageRequest.of(2, 100, Sort.by("id"))
+        )));
+
+        assertThat(page.get().getContent()).hasSize(100);
+        assertThat(page.get().getTotalElements()).isEqualTo(500);
+        assertThat(statements).hasSize(2);
+    }
+
+    @Test
+    void skipsCountForLastPage() {
+        AtomicReference<Page<Payment>> page = new AtomicReference<>();
+
+        List<String> statements = CapturingStatementInspector.capture(() -> page.set(executor.findAll(
+                Payment.class,
+                PaymentSpec.statusEq(PaymentStatus.PAID),
+                PageRequest.of(1, 300, Sort.by("id"))
+        )));
+
+        assertThat(page.get().getContent()).hasSize(200);
+        assertThat(page.get().getTotalElements()).isEqualTo(500);
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    void countsTotalForEmptyPageBeyondLastOne() {
+        Page<Payment> page = executor.findAll(
+                Payment.class,
+                PaymentSpec.statusEq(PaymentStatus.PAID),
+                PageRequest.of(10, 100, Sort.by("id"))
+        );
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(500);
+        assertThat(page.getTotalPages()).isEqualTo(5);
+    }
+}
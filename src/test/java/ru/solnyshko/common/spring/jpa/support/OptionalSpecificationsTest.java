@@ -0,0 +1,56 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.entity.CounterSpec;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OptionalSpecificationsTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        PaymentFixtures.insertPayments(entityManager, 100);
+    }
+
+    @Test
+    void absentFiltersVanishFromComposition() {
+        Specification<Payment> specification = PaymentSpec.statusEqIfPresent(null)
+                .and(PaymentSpec.commentLikeIfPresent(" "))
+                .and(PaymentSpec.customerIdEqIfPresent(7L));
+
+        assertThat(count(specification)).isEqualTo(1);
+    }
+
+    @Test
+    void negatedAbsentFilterStaysAbsent() {
+        assertThat(count(OptionalSpecifications.not(PaymentSpec.statusEqIfPresent(null)))).isEqualTo(100);
+        assertThat(count(OptionalSpecifications.not(PaymentSpec.statusEqIfPresent(PaymentStatus.PAID)))).isEqualTo(50);
+    }
+
+    @Test
+    void primitiveOnlyMethodsHaveNoIfPresentVariant() {
+        assertThat(Arrays.stream(CounterSpec.class.getDeclaredMethods()).map(Method::getName))
+                .contains("hitsEq", "hitsInIfPresent")
+                .doesNotContain("hitsEqIfPresent", "hitsBetweenIfPresent", "ownerIdEqIfPresent");
+    }
+
+    private long count(Specification<Payment> specification) {
+        return SpecificationQueries.createCountQuery(entityManager, Payment.class, specification).getSingleResult();
+    }
+}
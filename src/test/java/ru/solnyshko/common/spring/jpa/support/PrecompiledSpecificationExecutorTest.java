@@ -0,0 +1,88 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+import ru.solnyshko.common.spring.jpa.support.sql.CapturingStatementInspector;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class PrecompiledSpecificationExecutorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private PrecompiledSpecificationExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        PaymentFixtures.insertPayments(entityManager, 1000);
+        executor = new PrecompiledSpecificationExecutor(entityManager);
+    }
+
+    @Test
+    void findsSameRowsAsCriteriaPath() {
+        Specification<Payment> specification = PaymentSpec.statusEq(PaymentStatus.PAID)
+                .and(PaymentSpec.customerIdIn(1L, 2L, 4L))
+                .and(PaymentSpec.amountBetween(100.0, 500.0))
+                .and(PaymentSpec.isNotArchived());
+
+        assertThat(executor.findAll(Payment.class, specification))
+                .isNotEmpty()
+                .extracting(Payment::getId)
+                .containsExactlyInAnyOrderElementsOf(findIdsWithCriteria(specification));
+    }
+
+    @Test
+    void countsSameRowsAsCriteriaPath() {
+        Specification<Payment> specification = PaymentSpec.statusIn(List.of(PaymentStatus.NEW))
+                .and(PaymentSpec.isArchived());
+
+        long expectedCount = SpecificationQueries
+                .createCountQuery(entityManager, Payment.class, specification)
+                .getSingleResult();
+
+        assertThat(executor.count(Payment.class, specification)).isEqualTo(expectedCount);
+        assertThat(executor.count(Payment.class, null)).isEqualTo(1000);
+    }
+
+    @Test
+    void rendersOneStatementShapeForDifferentArguments() {
+        List<String> statements = CapturingStatementInspector.capture(() -> {
+            executor.findAll(Payment.class, PaymentSpec.customerIdEq(1L).and(PaymentSpec.amountGreaterThan(10.0)));
+            executor.findAll(Payment.class, PaymentSpec.customerIdEq(2L).and(PaymentSpec.amountGreaterThan(20.0)));
+        });
+
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).isEqualTo(statements.get(1));
+    }
+
+    @Test
+    void fallsBackToCriteriaForFiltersWithoutFragment() {
+        Specification<Payment> specification = PaymentSpec.commentLike("payment 10")
+                .and(PaymentSpec.statusEq(PaymentStatus.PAID));
+
+        assertThat(executor.findAll(Payment.class, specification))
+                .isNotEmpty()
+                .extracting(Payment::getId)
+                .containsExactlyInAnyOrderElementsOf(findIdsWithCriteria(specification));
+    }
+
+    private List<Long> findIdsWithCriteria(Specification<Payment> specification) {
+        return SpecificationQueries.createQuery(entityManager, Payment.class, specification)
+                .getResultList()
+                .stream()
+                .map(Payment::getId)
+                .toList();
+    }
+}
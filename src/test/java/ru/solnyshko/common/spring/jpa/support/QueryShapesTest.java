@@ -0,0 +1,46 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class QueryShapesTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void padsDistinctValuesToPowerOfTwo() {
+        assertThat(QueryShapes.padded(List.of(1, 2, 2, 3))).containsExactly(1, 2, 3, 3);
+        assertThat(QueryShapes.paddedArray(new long[]{5, 6, 7, 8, 9})).hasSize(8);
+    }
+
+    @Test
+    void sortsLiteralsByOrdinal() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        Expression<?>[] literals = QueryShapes.literals(cb, List.of(PaymentStatus.REFUNDED, PaymentStatus.NEW, PaymentStatus.NEW));
+
+        assertThat(literals).hasSize(2);
+    }
+
+    @Test
+    void rejectsNullLiteralsWithClearMessage() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        assertThatThrownBy(() -> QueryShapes.literals(cb, Arrays.asList(PaymentStatus.PAID, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("IsNull");
+    }
+}
@@ -0,0 +1,52 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+import ru.solnyshko.common.spring.jpa.support.SpecificationAggregateExecutor.TemporalBucket;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SpecificationAggregateExecutorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // <!> Created hourly from 2020-01-01 01:00, 1000 hours span January & February
+        PaymentFixtures.insertPayments(entityManager, 1000);
+    }
+
+    @Test
+    void countsTemporalValuesPerBucket() {
+        Map<LocalDateTime, Long> paymentsByMonth = PaymentSpec.countByCreatedAt(entityManager, null, TemporalBucket.MONTH);
+
+        assertThat(paymentsByMonth).containsExactly(
+                Map.entry(LocalDateTime.of(2020, 1, 1, 0, 0), 743L),
+                Map.entry(LocalDateTime.of(2020, 2, 1, 0, 0), 257L)
+        );
+
+        Map<LocalDateTime, Long> paymentsByDay = PaymentSpec.countByCreatedAt(entityManager, null, TemporalBucket.DAY);
+
+        assertThat(paymentsByDay).hasSize(42);
+        assertThat(paymentsByDay.get(LocalDateTime.of(2020, 1, 2, 0, 0))).isEqualTo(24L);
+    }
+
+    @Test
+    void countsByEnumValue() {
+        assertThat(PaymentSpec.countByStatus(entityManager, PaymentSpec.isNotArchived())).containsExactly(
+                Map.entry(PaymentStatus.NEW, 500L),
+                Map.entry(PaymentStatus.PAID, 400L)
+        );
+    }
+}
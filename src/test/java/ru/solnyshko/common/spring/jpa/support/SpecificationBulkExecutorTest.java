@@ -0,0 +1,84 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+import ru.solnyshko.common.spring.jpa.support.sql.CapturingStatementInspector;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SpecificationBulkExecutorTest {
+    private static final int ROW_COUNT = 1000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private SpecificationBulkExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        PaymentFixtures.insertPayments(entityManager, ROW_COUNT);
+        executor = new SpecificationBulkExecutor(entityManager);
+    }
+
+    @Test
+    void deleteReturnsNumberOfDeletedRows() {
+        int deleted = executor.delete(Payment.class, PaymentSpec.isArchived());
+
+        assertThat(deleted).isEqualTo(100);
+        assertThat(count(null)).isEqualTo(ROW_COUNT - 100);
+    }
+
+    @Test
+    void updateReturnsNumberOfUpdatedRows() {
+        int updated = executor.update(
+                Payment.class,
+                PaymentSpec.statusEq(PaymentStatus.PAID).and(PaymentSpec.customerIdEq(2L)),
+                (update, root) -> update.set(root.get("status"), PaymentStatus.REFUNDED)
+        );
+
+        assertThat(updated).isEqualTo(10);
+        assertThat(count(PaymentSpec.statusEq(PaymentStatus.REFUNDED))).isEqualTo(10);
+    }
+
+    @Test
+    void updateInBatchesCountsAllRowsAndBoundsEveryStatement() {
+        AtomicLong updated = new AtomicLong();
+
+        List<String> statements = CapturingStatementInspector.capture(() -> updated.set(executor.updateInBatches(
+                Payment.class,
+                PaymentSpec.statusEq(PaymentStatus.NEW),
+                (update, root) -> update.set(root.get("comment"), "reviewed"),
+                150
+        )));
+
+        // <!> Rows still match the filter after update, keyset walk must not pick them again
+        assertThat(updated.get()).isEqualTo(500);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("update")).hasSize(4);
+        assertThat(count(PaymentSpec.commentEq("reviewed"))).isEqualTo(500);
+    }
+
+    @Test
+    void deleteInBatchesCountsAllRows() {
+        long deleted = executor.deleteInBatches(Payment.class, PaymentSpec.statusEq(PaymentStatus.PAID), 200);
+
+        assertThat(deleted).isEqualTo(500);
+        assertThat(count(PaymentSpec.statusEq(PaymentStatus.PAID))).isZero();
+        assertThat(count(null)).isEqualTo(500);
+    }
+
+    private long count(Specification<Payment> specification) {
+        return SpecificationQueries.createCountQuery(entityManager, Payment.class, specification).getSingleResult();
+    }
+}
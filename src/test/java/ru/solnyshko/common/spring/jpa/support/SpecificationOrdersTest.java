@@ -0,0 +1,78 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.entity.CustomerSpec;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SpecificationOrdersTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        PaymentFixtures.insertPayments(entityManager, 100);
+        entityManager.createNativeQuery("update payments set created_at = null where mod(id, 7) = 0").executeUpdate();
+    }
+
+    @Test
+    void generatesSortingForIndexedFieldsOnly() {
+        assertThat(Arrays.stream(PaymentSpec.class.getDeclaredFields()).map(Field::getName))
+                .contains("SORT_BY_ID_ASC", "SORT_BY_CREATED_AT_DESC")
+                .doesNotContain("SORT_BY_AMOUNT_ASC", "SORT_BY_COMMENT_ASC");
+
+        assertThat(Arrays.stream(CustomerSpec.class.getDeclaredMethods()).map(Method::getName))
+                .contains("orderByIdAsc")
+                .doesNotContain("orderByAddressCityAsc");
+    }
+
+    @Test
+    void sortConstantsDeclareNullPrecedence() {
+        assertThat(PaymentSpec.SORT_BY_CREATED_AT_ASC.getOrderFor("createdAt").getNullHandling())
+                .isEqualTo(Sort.NullHandling.NULLS_LAST);
+        assertThat(PaymentSpec.SORT_BY_CREATED_AT_DESC.getOrderFor("createdAt").getNullHandling())
+                .isEqualTo(Sort.NullHandling.NULLS_FIRST);
+    }
+
+    @Test
+    void putsNullsLastAscendingAndFirstDescending() {
+        List<Long> ascendingIds = ids(PaymentSpec.orderByCreatedAtAsc(), Sort.unsorted());
+        List<Long> descendingIds = ids(PaymentSpec.orderByCreatedAtDesc(), Sort.unsorted());
+
+        assertThat(ascendingIds.subList(ascendingIds.size() - 14, ascendingIds.size())).allMatch(id -> id % 7 == 0);
+        assertThat(descendingIds.subList(0, 14)).allMatch(id -> id % 7 == 0);
+    }
+
+    @Test
+    void sortConstantsAndOrderingSpecificationsSortNullsAlike() {
+        assertThat(ids(PaymentSpec.orderByCreatedAtAsc(), Sort.unsorted()))
+                .isEqualTo(ids(null, PaymentSpec.SORT_BY_CREATED_AT_ASC));
+
+        assertThat(ids(PaymentSpec.orderByCreatedAtDesc(), Sort.unsorted()))
+                .isEqualTo(ids(null, PaymentSpec.SORT_BY_CREATED_AT_DESC));
+    }
+
+    private List<Long> ids(Specification<Payment> specification, Sort sort) {
+        return SpecificationQueries.createQuery(entityManager, Payment.class, specification, sort)
+                .getResultList()
+                .stream()
+                .map(Payment::getId)
+                .toList();
+    }
+}
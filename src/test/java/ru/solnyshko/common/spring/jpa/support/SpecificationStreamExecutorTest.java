@@ -0,0 +1,119 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// <!> File database keeps streamed rows out of the heap, so heap usage reflects the persistence context only
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/h2/specification-stream-executor-test",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SpecificationStreamExecutorTest {
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int CLEAR_INTERVAL = 1000;
+    private static final int HEAP_SAMPLE_INTERVAL = 200_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void streamsMillionRowsWithBoundedHeap() {
+        PaymentFixtures.insertPayments(entityManager, ROW_COUNT);
+
+        Session session = entityManager.unwrap(Session.class);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        SpecificationStreamExecutor executor = new SpecificationStreamExecutor(entityManager)
+                .setClearInterval(CLEAR_INTERVAL);
+
+        AtomicLong streamedRows = new AtomicLong();
+        AtomicInteger maxManagedEntities = new AtomicInteger();
+        List<Long> usedHeapSamples = new ArrayList<>();
+
+        try (Stream<Payment> payments = executor.stream(Payment.class, null)) {
+            payments.forEach(payment -> {
+                long streamed = streamedRows.incrementAndGet();
+                maxManagedEntities.accumulateAndGet(session.getStatistics().getEntityCount(), Math::max);
+
+                if (streamed % HEAP_SAMPLE_INTERVAL == 0) {
+                    System.gc();
+                    usedHeapSamples.add(memory.getHeapMemoryUsage().getUsed());
+                }
+            });
+        }
+
+        assertThat(streamedRows.get()).isEqualTo(ROW_COUNT);
+        assertThat(maxManagedEntities.get()).isLessThanOrEqualTo(CLEAR_INTERVAL);
+        assertThat(usedHeapSamples.get(usedHeapSamples.size() - 1) - usedHeapSamples.get(0))
+                .isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    @Test
+    void streamsOnlyRowsMatchingSpecification() {
+        PaymentFixtures.insertPayments(entityManager, 1000);
+
+        SpecificationStreamExecutor executor = new SpecificationStreamExecutor(entityManager)
+                .setClearInterval(100);
+
+        try (Stream<Payment> payments = executor.stream(Payment.class, PaymentSpec.statusEq(PaymentStatus.PAID))) {
+            assertThat(payments)
+                    .hasSize(500)
+                    .allMatch(payment -> payment.getStatus() == PaymentStatus.PAID);
+        }
+    }
+
+    @Test
+    void keepsOtherEntitiesOfPersistenceContextManaged() {
+        PaymentFixtures.insertPayments(entityManager, 1000);
+
+        Payment modified = entityManager.find(Payment.class, 1L);
+        modified.setComment("modified");
+
+        SpecificationStreamExecutor executor = new SpecificationStreamExecutor(entityManager)
+                .setClearInterval(100);
+
+        List<Payment> streamed;
+        try (Stream<Payment> payments = executor.stream(Payment.class, PaymentSpec.statusEq(PaymentStatus.PAID))) {
+            streamed = payments.toList();
+        }
+
+        assertThat(streamed).hasSize(500).noneMatch(entityManager::contains);
+        assertThat(entityManager.contains(modified)).isTrue();
+        assertThat(modified.getComment()).isEqualTo("modified");
+    }
+
+    @Test
+    void returnsManagedEntitiesWhenClearingIsDisabled() {
+        PaymentFixtures.insertPayments(entityManager, 1000);
+
+        SpecificationStreamExecutor executor = new SpecificationStreamExecutor(entityManager)
+                .setClearInterval(0);
+
+        try (Stream<Payment> payments = executor.stream(Payment.class, PaymentSpec.customerIdEq(7L))) {
+            assertThat(payments)
+                    .isNotEmpty()
+                    .allMatch(entityManager::contains);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import org.junit.jupiter.api.Test;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringMatchingTest {
+
+    @Test
+    void matchesWithinTrimmedBoundsIgnoringCase() {
+        assertThat(StringMatching.containsIgnoreCase("  Card PAYMENT  ", "d pay")).isTrue();
+        assertThat(StringMatching.containsIgnoreCase("  Card  ", "card  ")).isFalse();
+        assertThat(StringMatching.containsIgnoreCase("   ", "")).isTrue();
+
+        assertThat(StringMatching.startsWithIgnoreCase("  Card", "card")).isTrue();
+        assertThat(StringMatching.startsWithIgnoreCase("Ca  ", "ca ")).isFalse();
+
+        assertThat(StringMatching.endsWithIgnoreCase("Payment  ", "ment")).isTrue();
+        assertThat(StringMatching.endsWithIgnoreCase("  ment", " ment")).isFalse();
+    }
+
+    @Test
+    void generatedMatchersAgreeWithTrimmedLowerCaseComparison() {
+        Payment payment = new Payment();
+        payment.setComment(" Refund of Order 42 ");
+
+        assertThat(PaymentSpec.Matchers.commentLike(" ORDER ")).accepts(payment);
+        assertThat(PaymentSpec.Matchers.commentStartsWith("refund")).accepts(payment);
+        assertThat(PaymentSpec.Matchers.commentEndsWith("42")).accepts(payment);
+        assertThat(PaymentSpec.Matchers.commentNotLike("order")).rejects(payment);
+    }
+}
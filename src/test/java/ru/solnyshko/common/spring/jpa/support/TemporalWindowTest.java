@@ -0,0 +1,69 @@
+package ru.solnyshko.common.spring.jpa.support;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.support.descriptor.SpecificationDescriptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class TemporalWindowTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void withinLastExcludesFutureRows() {
+        LocalDateTime now = LocalDateTime.now();
+        persistPayment(1L, now.minusHours(1));
+        persistPayment(2L, now.plusHours(1));
+        persistPayment(3L, now.minusDays(2));
+
+        List<Payment> payments = SpecificationQueries
+                .createQuery(entityManager, Payment.class, PaymentSpec.createdAtWithinLast(Duration.ofDays(1)))
+                .getResultList();
+
+        assertThat(payments).extracting(Payment::getId).containsExactly(1L);
+    }
+
+    @Test
+    void withinLastMatcherExcludesFutureRows() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(PaymentSpec.Matchers.createdAtWithinLast(Duration.ofDays(1)))
+                .accepts(payment(now.minusHours(1)))
+                .rejects(payment(now.plusHours(1)), payment(now.minusDays(2)));
+    }
+
+    @Test
+    void withinLastDescriptorHoldsWindowItWasBuiltFor() throws InterruptedException {
+        SpecificationDescriptor<?> earlier = (SpecificationDescriptor<?>) PaymentSpec.createdAtWithinLast(Duration.ofDays(1));
+        Thread.sleep(5);
+        SpecificationDescriptor<?> later = (SpecificationDescriptor<?>) PaymentSpec.createdAtWithinLast(Duration.ofDays(1));
+
+        assertThat(earlier.getName()).isEqualTo("Payment.createdAtInRange");
+        assertThat(earlier.getArguments()).hasSize(2);
+        assertThat(earlier).isNotEqualTo(later);
+    }
+
+    private void persistPayment(Long id, LocalDateTime createdAt) {
+        Payment payment = payment(createdAt);
+        payment.setId(id);
+        entityManager.persist(payment);
+        entityManager.flush();
+    }
+
+    private static Payment payment(LocalDateTime createdAt) {
+        Payment payment = new Payment();
+        payment.setCreatedAt(createdAt);
+        return payment;
+    }
+}
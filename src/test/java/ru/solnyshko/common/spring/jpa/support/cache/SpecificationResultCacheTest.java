@@ -0,0 +1,78 @@
+package ru.solnyshko.common.spring.jpa.support.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpecificationResultCacheTest {
+
+    @Test
+    void returnsCachedResultWithinTimeToLive() {
+        SpecificationResultCache cache = new SpecificationResultCache(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", loads::incrementAndGet);
+        cache.get("key", loads::incrementAndGet);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void reloadedKeyIsEvictedOnlyOnce() throws InterruptedException {
+        SpecificationResultCache cache = new SpecificationResultCache(2, Duration.ofMillis(20));
+
+        cache.get("first", () -> 1);
+        Thread.sleep(40);
+        cache.get("first", () -> 2);
+        cache.get("second", () -> 3);
+
+        // <!> Stale queue node of "first" must not evict its reloaded entry
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.<Integer>get("first", () -> 4)).isEqualTo(2);
+    }
+
+    @Test
+    void purgesExpiredEntriesOnEviction() throws InterruptedException {
+        SpecificationResultCache cache = new SpecificationResultCache(100, Duration.ofMillis(20));
+
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            cache.get(i, () -> value);
+        }
+
+        Thread.sleep(40);
+        cache.get("fresh", () -> 0);
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsEldestEntriesOverMaximumSize() {
+        SpecificationResultCache cache = new SpecificationResultCache(3, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            cache.get(i, () -> value);
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.<Integer>get(9, () -> -1)).isEqualTo(9);
+        assertThat(cache.<Integer>get(0, () -> -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void failsFastOnReentrantLoadOfSameKey() {
+        SpecificationResultCache cache = new SpecificationResultCache(10, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> cache.get("key", () -> cache.get("key", () -> "inner")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Re-entrant load");
+
+        // <!> Failed load is not cached, the key loads normally afterwards
+        assertThat(cache.get("key", () -> "value")).isEqualTo("value");
+    }
+}
@@ -0,0 +1,61 @@
+package ru.solnyshko.common.spring.jpa.support.descriptor;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.entity.PaymentStatus;
+import ru.solnyshko.common.spring.jpa.support.SpecificationQueries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SpecificationDescriptorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void equalArgumentsMakeEqualDescriptors() {
+        assertThat(PaymentSpec.statusIn(PaymentStatus.NEW, PaymentStatus.PAID))
+                .isEqualTo(PaymentSpec.statusIn(PaymentStatus.NEW, PaymentStatus.PAID))
+                .hasSameHashCodeAs(PaymentSpec.statusIn(PaymentStatus.NEW, PaymentStatus.PAID));
+    }
+
+    @Test
+    void laterMutationOfCollectionChangesNeitherKeyNorPredicate() {
+        PaymentFixtures.insertPayments(entityManager, 100);
+
+        List<PaymentStatus> statuses = new ArrayList<>(List.of(PaymentStatus.PAID));
+        Specification<Payment> specification = PaymentSpec.statusIn(statuses);
+
+        statuses.add(PaymentStatus.NEW);
+
+        assertThat(specification).isEqualTo(PaymentSpec.statusIn(List.of(PaymentStatus.PAID)));
+        assertThat(SpecificationQueries.createQuery(entityManager, Payment.class, specification).getResultList())
+                .hasSize(50)
+                .allMatch(payment -> payment.getStatus() == PaymentStatus.PAID);
+    }
+
+    @Test
+    void laterMutationOfArrayChangesNeitherKeyNorPredicate() {
+        PaymentFixtures.insertPayments(entityManager, 100);
+
+        PaymentStatus[] statuses = {PaymentStatus.PAID};
+        Specification<Payment> specification = PaymentSpec.statusIn(statuses);
+
+        statuses[0] = PaymentStatus.NEW;
+
+        assertThat(specification).isEqualTo(PaymentSpec.statusIn(PaymentStatus.PAID));
+        assertThat(SpecificationQueries.createQuery(entityManager, Payment.class, specification).getResultList())
+                .hasSize(50)
+                .allMatch(payment -> payment.getStatus() == PaymentStatus.PAID);
+    }
+}
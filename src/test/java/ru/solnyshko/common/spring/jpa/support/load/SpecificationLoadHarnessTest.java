@@ -0,0 +1,75 @@
+package ru.solnyshko.common.spring.jpa.support.load;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SpecificationLoadHarnessTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void insertPayments() {
+        PaymentFixtures.insertPayments(entityManager, 1000);
+    }
+
+    @Test
+    void reportsPercentilesWithSqlAndPlansOfWorstCombinations() {
+        SpecificationLoadHarness.LoadReport report = new SpecificationLoadHarness(entityManager)
+                .setIterations(300)
+                .setWorstCount(3)
+                .run(Payment.class, PaymentSpec.class);
+
+        assertThat(report.failures()).isZero();
+        assertThat(report.p50Micros()).isLessThanOrEqualTo(report.p95Micros());
+        assertThat(report.p95Micros()).isLessThanOrEqualTo(report.p99Micros());
+        assertThat(report.p99Micros()).isLessThanOrEqualTo(report.maxMicros());
+
+        assertThat(report.worstCombinations())
+                .hasSize(3)
+                .allSatisfy(result -> {
+                    assertThat(result.sql()).startsWith("select").contains("payments");
+                    assertThat(result.plan()).containsIgnoringCase("payments");
+                });
+    }
+
+    @Test
+    void excludesFailedExecutionsFromLatencyStatistics() {
+        SpecificationLoadHarness.LoadReport report = new SpecificationLoadHarness(entityManager)
+                .setIterations(100)
+                .setMaxFilters(1)
+                .run(Payment.class, FailingSpec.class);
+
+        assertThat(report.failures()).isPositive();
+        assertThat(report.distinctCombinations()).isEqualTo(1);
+        assertThat(report.worstCombinations())
+                .singleElement()
+                .satisfies(result -> {
+                    assertThat(result.combination()).isEqualTo("isArchived");
+                    assertThat(result.executions()).isEqualTo(100 - report.failures());
+                });
+    }
+
+    public static class FailingSpec {
+
+        public static Specification<Payment> isArchived() {
+            return PaymentSpec.isArchived();
+        }
+
+        public static Specification<Payment> failing() {
+            return (root, query, cb) -> {
+                throw new IllegalStateException("Predicate can not be built");
+            };
+        }
+    }
+}
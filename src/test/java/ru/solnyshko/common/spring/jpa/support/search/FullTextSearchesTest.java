@@ -0,0 +1,65 @@
+package ru.solnyshko.common.spring.jpa.support.search;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentFixtures;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+import ru.solnyshko.common.spring.jpa.support.SpecificationQueries;
+import ru.solnyshko.common.spring.jpa.support.sql.CapturingStatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// <!> Runs against the H2 fallback (lower() like), PostgreSQL to_tsvector rendering is not covered here
+
+@DataJpaTest
+class FullTextSearchesTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        PaymentFixtures.insertPayments(entityManager, 1000);
+    }
+
+    @Test
+    void bindsSearchTextAsParameter() {
+        List<Payment> payments = new ArrayList<>();
+
+        List<String> statements = CapturingStatementInspector.capture(() -> payments.addAll(SpecificationQueries
+                .createQuery(entityManager, Payment.class, PaymentSpec.commentMatches("PAYMENT 99"))
+                .getResultList()));
+
+        assertThat(payments).extracting(Payment::getComment).contains("payment 99", "payment 990");
+        assertThat(statements).singleElement().asString()
+                .doesNotContainIgnoringCase("payment 99")
+                .contains("?");
+    }
+
+    @Test
+    void quotesInSearchTextAreNotPartOfSql() {
+        List<Payment> payments = SpecificationQueries
+                .createQuery(entityManager, Payment.class, PaymentSpec.commentMatches("x' or '1'='1"))
+                .getResultList();
+
+        assertThat(payments).isEmpty();
+    }
+
+    @Test
+    void ordersMatchesByRank() {
+        List<Payment> payments = SpecificationQueries
+                .createQuery(entityManager, Payment.class, PaymentSpec.commentMatchesOrderedByRank("payment 5"))
+                .getResultList();
+
+        // <!> Fallback rank prefers shorter documents, so the exact match comes first
+        assertThat(payments).isNotEmpty();
+        assertThat(payments.get(0).getComment()).isEqualTo("payment 5");
+    }
+}
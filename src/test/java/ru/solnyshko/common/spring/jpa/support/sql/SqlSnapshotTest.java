@@ -0,0 +1,61 @@
+package ru.solnyshko.common.spring.jpa.support.sql;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.solnyshko.common.spring.jpa.entity.Customer;
+import ru.solnyshko.common.spring.jpa.entity.CustomerSpec;
+import ru.solnyshko.common.spring.jpa.entity.Payment;
+import ru.solnyshko.common.spring.jpa.entity.PaymentSpec;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class SqlSnapshotTest {
+    private static final Path SNAPSHOT_DIR = Path.of("src/test/resources/sql-snapshots");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void generatedSqlMatchesSnapshot() {
+        new SqlSnapshotHarness(entityManager, SNAPSHOT_DIR)
+                .verify(Payment.class, PaymentSpec.class);
+    }
+
+    @Test
+    void embeddedAndElementCollectionSqlMatchesSnapshot() {
+        new SqlSnapshotHarness(entityManager, SNAPSHOT_DIR)
+                .verify(Customer.class, CustomerSpec.class);
+    }
+
+    @Test
+    void failsWhenSnapshotIsMissing() {
+        Path emptyDir = Path.of("build/sql-snapshots-missing");
+
+        assertThatThrownBy(() -> new SqlSnapshotHarness(entityManager, emptyDir)
+                .setUpdate(false)
+                .verify(Payment.class, PaymentSpec.class))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Missing SQL snapshot");
+
+        assertThat(Files.exists(emptyDir.resolve(PaymentSpec.class.getName() + SqlSnapshotHarness.SNAPSHOT_EXTENSION)))
+                .isFalse();
+    }
+
+    @Test
+    void snapshotContainsRenderedSqlAndPlan() {
+        String snapshot = new SqlSnapshotHarness(entityManager, SNAPSHOT_DIR)
+                .buildSnapshot(Payment.class, PaymentSpec.class);
+
+        assertThat(snapshot)
+                .contains("-- statusEq(ru.solnyshko.common.spring.jpa.entity.PaymentStatus)")
+                .contains("from payments")
+                .contains("-- plan");
+    }
+}
@@ -0,0 +1,181 @@
+package ru.solnyshko.common.spring.jpa.support.load;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+// <!> Generates random but valid arguments for generated spec methods.
+// <!> Values are kept in narrow ranges so that random filters actually match seeded rows.
+
+public class RandomArguments {
+    private static final int MAX_COLLECTION_SIZE = 16;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+    private static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1);
+
+    private final Random random;
+    private final Map<Class<?>, Function<Random, ?>> customGenerators = new HashMap<>();
+
+    public RandomArguments(Random random) {
+        this.random = random;
+    }
+
+    public <V> void register(Class<V> type, Function<Random, V> generator) {
+        customGenerators.put(type, generator);
+    }
+
+    public boolean isSupported(Type type) {
+        Class<?> rawType = getRawType(type);
+        if (rawType.isArray()) {
+            return isSupported(rawType.getComponentType());
+        }
+
+        if (Collection.class.isAssignableFrom(rawType)) {
+            return type instanceof ParameterizedType parameterizedType
+                    && isSupported(parameterizedType.getActualTypeArguments()[0]);
+        }
+
+        return customGenerators.containsKey(rawType)
+                || rawType.isEnum()
+                || generateScalar(rawType) != null;
+    }
+
+    public Object generate(Type type) {
+        Class<?> rawType = getRawType(type);
+
+        if (rawType.isArray()) {
+            int size = 1 + random.nextInt(MAX_COLLECTION_SIZE);
+            Object array = Array.newInstance(rawType.getComponentType(), size);
+
+            for (int i = 0; i < size; i++) {
+                Array.set(array, i, generate(rawType.getComponentType()));
+            }
+
+            return array;
+        }
+
+        if (Collection.class.isAssignableFrom(rawType)) {
+            Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+            int size = 1 + random.nextInt(MAX_COLLECTION_SIZE);
+            List<Object> values = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                values.add(generate(elementType));
+            }
+
+            return values;
+        }
+
+        Function<Random, ?> customGenerator = customGenerators.get(rawType);
+        if (customGenerator != null) {
+            return customGenerator.apply(random);
+        }
+
+        if (rawType.isEnum()) {
+            Object[] constants = rawType.getEnumConstants();
+            return constants[random.nextInt(constants.length)];
+        }
+
+        return generateScalar(rawType);
+    }
+
+    private Object generateScalar(Class<?> type) {
+        if (type == String.class) {
+            return randomString();
+        }
+
+        if (type == Character.class || type == char.class) {
+            return ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+
+        if (type == Boolean.class || type == boolean.class) {
+            return random.nextBoolean();
+        }
+
+        if (type == Byte.class || type == byte.class) {
+            return (byte) random.nextInt(100);
+        }
+
+        if (type == Short.class || type == short.class) {
+            return (short) random.nextInt(1000);
+        }
+
+        if (type == Integer.class || type == int.class) {
+            return random.nextInt(1000);
+        }
+
+        if (type == Long.class || type == long.class) {
+            return (long) random.nextInt(1000);
+        }
+
+        if (type == Float.class || type == float.class) {
+            return random.nextFloat() * 1000;
+        }
+
+        if (type == Double.class || type == double.class) {
+            return random.nextDouble() * 1000;
+        }
+
+        if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(random.nextInt(100_000), 2);
+        }
+
+        if (type == LocalDate.class) {
+            return BASE_DATE.plusDays(random.nextInt(3 * 365));
+        }
+
+        if (type == LocalDateTime.class) {
+            return BASE_DATE.atStartOfDay().plusMinutes(random.nextInt(3 * 365 * 24 * 60));
+        }
+
+        if (type == LocalTime.class) {
+            return LocalTime.ofSecondOfDay(random.nextInt(24 * 60 * 60));
+        }
+
+        if (type == YearMonth.class) {
+            return YearMonth.from(BASE_DATE).plusMonths(random.nextInt(36));
+        }
+
+        if (type == Duration.class) {
+            return Duration.ofHours(1 + random.nextInt(24 * 90));
+        }
+
+        if (type == Period.class) {
+            return Period.ofDays(1 + random.nextInt(90));
+        }
+
+        return null;
+    }
+
+    private String randomString() {
+        int length = 1 + random.nextInt(3);
+        StringBuilder value = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+
+        return value.toString();
+    }
+
+    private static Class<?> getRawType(Type type) {
+        if (type instanceof ParameterizedType parameterizedType) {
+            return (Class<?>) parameterizedType.getRawType();
+        }
+
+        return type instanceof Class<?> rawClass ? rawClass : Object.class;
+    }
+}
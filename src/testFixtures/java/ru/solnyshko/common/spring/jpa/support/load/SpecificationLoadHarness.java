@@ -0,0 +1,271 @@
+package ru.solnyshko.common.spring.jpa.support.load;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.support.SpecificationQueries;
+import ru.solnyshko.common.spring.jpa.support.sql.CapturingStatementInspector;
+import ru.solnyshko.common.spring.jpa.support.sql.QueryPlans;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// <!> Executes random AND-combinations of specifications generated into a Spec class with random arguments
+// <!> and reports latency percentiles together with rendered SQL & EXPLAIN plans of the slowest combinations.
+// <!> Rendered SQL is read through CapturingStatementInspector, which must be registered as statement inspector.
+// <!> Failed executions are counted apart and excluded from latency statistics.
+
+@Slf4j
+@Setter
+@Accessors(chain = true)
+public class SpecificationLoadHarness {
+    public static final int DEFAULT_ITERATIONS = 1000;
+    public static final int DEFAULT_MAX_FILTERS = 3;
+    public static final int DEFAULT_MAX_RESULTS = 100;
+    public static final int DEFAULT_WORST_COUNT = 10;
+
+    private final EntityManager entityManager;
+
+    private int iterations = DEFAULT_ITERATIONS;
+    private int maxFilters = DEFAULT_MAX_FILTERS;
+    private int maxResults = DEFAULT_MAX_RESULTS;
+    private int worstCount = DEFAULT_WORST_COUNT;
+    private long seed = 42;
+
+    @Setter(AccessLevel.NONE)
+    private final Map<Class<?>, Function<Random, ?>> argumentGenerators = new HashMap<>();
+
+    public SpecificationLoadHarness(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // <!> Custom generators replace random values of a type, e.g. ids sampled from the seeded database.
+
+    public <V> SpecificationLoadHarness registerArgumentGenerator(Class<V> type, Function<Random, V> generator) {
+        argumentGenerators.put(type, generator);
+        return this;
+    }
+
+    public <T> LoadReport run(Class<T> entityClass, Class<?> specClass) {
+        Random random = new Random(seed);
+        RandomArguments randomArguments = new RandomArguments(random);
+        argumentGenerators.forEach((type, generator) -> registerGenerator(randomArguments, type, generator));
+
+        List<Method> specMethods = findSpecificationMethods(specClass, randomArguments);
+        if (specMethods.isEmpty()) {
+            throw new IllegalArgumentException("No specification methods with supported arguments in " + specClass.getName());
+        }
+
+        Map<String, CombinationStatistics> statisticsByCombination = new HashMap<>();
+        long[] latencyNanos = new long[iterations];
+        int executions = 0;
+        int failures = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            List<Method> combination = pickCombination(specMethods, random);
+            Specification<T> specification = Specification.where(null);
+
+            for (Method specMethod : combination) {
+                specification = specification.and(invoke(specMethod, randomArguments));
+            }
+
+            String combinationName = combination.stream()
+                    .map(Method::getName)
+                    .sorted()
+                    .collect(Collectors.joining(" & "));
+
+            Specification<T> combinedSpecification = specification;
+            long[] elapsedNanos = new long[1];
+
+            List<String> statements;
+            try {
+                statements = CapturingStatementInspector.capture(() -> {
+                    CriteriaQuery<T> criteriaQuery = buildCriteriaQuery(entityClass, combinedSpecification);
+                    long startNanos = System.nanoTime();
+
+                    entityManager.createQuery(criteriaQuery)
+                            .setMaxResults(maxResults)
+                            .getResultList();
+
+                    elapsedNanos[0] = System.nanoTime() - startNanos;
+                });
+            } catch (RuntimeException exception) {
+                failures++;
+                log.warn("Specification combination {} failed", combinationName, exception);
+                continue;
+            } finally {
+                entityManager.clear();
+            }
+
+            if (statements.isEmpty()) {
+                throw new IllegalStateException("No SQL captured, register " + CapturingStatementInspector.class.getName()
+                        + " as hibernate.session_factory.statement_inspector");
+            }
+
+            latencyNanos[executions++] = elapsedNanos[0];
+
+            statisticsByCombination
+                    .computeIfAbsent(combinationName, name -> new CombinationStatistics(name, statements.get(0)))
+                    .record(elapsedNanos[0]);
+        }
+
+        long[] sortedLatencyNanos = Arrays.copyOf(latencyNanos, executions);
+        Arrays.sort(sortedLatencyNanos);
+
+        List<CombinationResult> worstCombinations = statisticsByCombination.values()
+                .stream()
+                .sorted(Comparator.comparingLong(CombinationStatistics::getMaxNanos).reversed())
+                .limit(worstCount)
+                .map(statistics -> statistics.toResult(QueryPlans.explain(entityManager, statistics.sql)))
+                .toList();
+
+        return new LoadReport(
+                iterations,
+                failures,
+                statisticsByCombination.size(),
+                getPercentileMicros(sortedLatencyNanos, 0.5),
+                getPercentileMicros(sortedLatencyNanos, 0.95),
+                getPercentileMicros(sortedLatencyNanos, 0.99),
+                getPercentileMicros(sortedLatencyNanos, 1.0),
+                worstCombinations
+        );
+    }
+
+    // UTILITY
+
+    private static List<Method> findSpecificationMethods(Class<?> specClass, RandomArguments randomArguments) {
+        return Arrays.stream(specClass.getDeclaredMethods())
+                .filter(method -> Modifier.isPublic(method.getModifiers()) && Modifier.isStatic(method.getModifiers()))
+                .filter(method -> Specification.class.isAssignableFrom(method.getReturnType()))
+                .filter(method -> Arrays.stream(method.getGenericParameterTypes()).allMatch(randomArguments::isSupported))
+                .sorted(Comparator.comparing(Method::toString))
+                .toList();
+    }
+
+    private List<Method> pickCombination(List<Method> specMethods, Random random) {
+        int size = 1 + random.nextInt(Math.min(maxFilters, specMethods.size()));
+        List<Method> combination = new ArrayList<>(size);
+
+        while (combination.size() < size) {
+            Method specMethod = specMethods.get(random.nextInt(specMethods.size()));
+            if (!combination.contains(specMethod)) {
+                combination.add(specMethod);
+            }
+        }
+
+        return combination;
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private static <T> Specification<T> invoke(Method specMethod, RandomArguments randomArguments) {
+        Type[] parameterTypes = specMethod.getGenericParameterTypes();
+        Object[] arguments = new Object[parameterTypes.length];
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = randomArguments.generate(parameterTypes[i]);
+        }
+
+        return (Specification<T>) specMethod.invoke(null, arguments);
+    }
+
+    private <T> CriteriaQuery<T> buildCriteriaQuery(Class<T> entityClass, Specification<T> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+
+        SpecificationQueries.applySpecification(specification, root, query, cb);
+        return query.select(root);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void registerGenerator(
+            RandomArguments randomArguments,
+            Class<V> type,
+            Function<Random, ?> generator
+    ) {
+        randomArguments.register(type, (Function<Random, V>) generator);
+    }
+
+    private static long getPercentileMicros(long[] sortedLatencyNanos, double percentile) {
+        if (sortedLatencyNanos.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(sortedLatencyNanos.length * percentile) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(sortedLatencyNanos[Math.max(index, 0)]);
+    }
+
+    // REPORT
+
+    public record LoadReport(
+            int iterations,
+            int failures,
+            int distinctCombinations,
+            long p50Micros,
+            long p95Micros,
+            long p99Micros,
+            long maxMicros,
+            List<CombinationResult> worstCombinations
+    ) {}
+
+    public record CombinationResult(
+            String combination,
+            String sql,
+            String plan,
+            int executions,
+            long meanMicros,
+            long maxMicros
+    ) {}
+
+    private static class CombinationStatistics {
+        private final String combination;
+        private final String sql;
+
+        private int executions = 0;
+        private long totalNanos = 0;
+        @Getter
+        private long maxNanos = 0;
+
+        private CombinationStatistics(String combination, String sql) {
+            this.combination = combination;
+            this.sql = sql;
+        }
+
+        private void record(long elapsedNanos) {
+            executions++;
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+        }
+
+        private CombinationResult toResult(String plan) {
+            return new CombinationResult(
+                    combination,
+                    sql,
+                    plan,
+                    executions,
+                    TimeUnit.NANOSECONDS.toMicros(totalNanos / executions),
+                    TimeUnit.NANOSECONDS.toMicros(maxNanos)
+            );
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ru.solnyshko.common.spring.jpa.support.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// <!> Records SQL rendered by Hibernate on the current thread, must be registered as statement inspector:
+// <!> spring.jpa.properties.hibernate.session_factory.statement_inspector=ru.solnyshko.common.spring.jpa.support.sql.CapturingStatementInspector
+
+public class CapturingStatementInspector implements StatementInspector {
+    private static final ThreadLocal<List<String>> CAPTURED_STATEMENTS = new ThreadLocal<>();
+
+    public static List<String> capture(Runnable execution) {
+        List<String> capturedStatements = new ArrayList<>();
+        CAPTURED_STATEMENTS.set(capturedStatements);
+
+        try {
+            execution.run();
+        } finally {
+            CAPTURED_STATEMENTS.remove();
+        }
+
+        return capturedStatements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> capturedStatements = CAPTURED_STATEMENTS.get();
+        if (capturedStatements != null) {
+            capturedStatements.add(sql);
+        }
+
+        return sql;
+    }
+}
@@ -0,0 +1,39 @@
+package ru.solnyshko.common.spring.jpa.support.sql;
+
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.StringJoiner;
+
+@UtilityClass
+public class QueryPlans {
+
+    // <!> Runs EXPLAIN for captured SQL with every parameter bound to null,
+    // <!> so the plan shows access paths (index or scan) rather than value specific estimates.
+
+    public String explain(EntityManager entityManager, String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+
+                StringJoiner plan = new StringJoiner("\n");
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+
+                return plan.toString();
+            }
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package ru.solnyshko.common.spring.jpa.support.sql;
+
+import jakarta.persistence.EntityManager;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.experimental.Accessors;
+import org.springframework.data.jpa.domain.Specification;
+import ru.solnyshko.common.spring.jpa.support.SpecificationQueries;
+import ru.solnyshko.common.spring.jpa.support.load.RandomArguments;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+// <!> Runs every specification generated into a Spec class against a database, captures rendered SQL & EXPLAIN plan
+// <!> and compares them with a committed snapshot, so that SQL shape changes (e.g. lower(trim()) wrapping) fail tests.
+// <!> Missing or differing snapshots fail verification, they are (re)written only when update is requested
+// <!> explicitly, either with setUpdate(true) or with -Dspecgen.snapshotUpdate=true system property.
+
+@Setter
+@Accessors(chain = true)
+public class SqlSnapshotHarness {
+    public static final String SNAPSHOT_UPDATE_PROPERTY = "specgen.snapshotUpdate";
+    public static final String SNAPSHOT_EXTENSION = ".sql.snapshot";
+
+    private final EntityManager entityManager;
+    private final Path snapshotDir;
+
+    private boolean update = Boolean.getBoolean(SNAPSHOT_UPDATE_PROPERTY);
+
+    public SqlSnapshotHarness(EntityManager entityManager, Path snapshotDir) {
+        this.entityManager = entityManager;
+        this.snapshotDir = snapshotDir;
+    }
+
+    @SneakyThrows
+    public <T> void verify(Class<T> entityClass, Class<?> specClass) {
+        String snapshot = buildSnapshot(entityClass, specClass);
+        Path snapshotPath = snapshotDir.resolve(specClass.getName() + SNAPSHOT_EXTENSION);
+
+        if (update) {
+            Files.createDirectories(snapshotDir);
+            Files.writeString(snapshotPath, snapshot, StandardCharsets.UTF_8);
+            return;
+        }
+
+        if (Files.notExists(snapshotPath)) {
+            throw new AssertionError("Missing SQL snapshot " + snapshotPath
+                    + ", rerun with -D" + SNAPSHOT_UPDATE_PROPERTY + "=true to record it");
+        }
+
+        String committedSnapshot = Files.readString(snapshotPath, StandardCharsets.UTF_8);
+        if (!committedSnapshot.equals(snapshot)) {
+            throw new AssertionError("SQL of " + specClass.getName() + " differs from snapshot " + snapshotPath
+                    + ", rerun with -D" + SNAPSHOT_UPDATE_PROPERTY + "=true if intended\n"
+                    + describeFirstDifference(committedSnapshot, snapshot));
+        }
+    }
+
+    // <!> Snapshot lists every specification method in signature order with the SQL it renders and its plan.
+    // <!> Arguments are seeded by method signature, so adding a method doesn't change arguments of others.
+
+    public <T> String buildSnapshot(Class<T> entityClass, Class<?> specClass) {
+        StringBuilder snapshot = new StringBuilder();
+
+        for (Method specMethod : findSpecificationMethods(specClass)) {
+            Specification<T> specification = invoke(specMethod);
+
+            List<String> statements = CapturingStatementInspector.capture(() -> SpecificationQueries
+                    .createQuery(entityManager, entityClass, specification)
+                    .setMaxResults(1)
+                    .getResultList());
+
+            entityManager.clear();
+
+            if (statements.isEmpty()) {
+                throw new IllegalStateException("No SQL captured, register " + CapturingStatementInspector.class.getName()
+                        + " as hibernate.session_factory.statement_inspector");
+            }
+
+            String sql = statements.get(0);
+
+            snapshot.append("-- ").append(getSignature(specMethod)).append("\n")
+                    .append(sql).append("\n")
+                    .append("-- plan\n")
+                    .append(QueryPlans.explain(entityManager, sql)).append("\n\n");
+        }
+
+        return snapshot.toString();
+    }
+
+    // UTILITY
+
+    private static List<Method> findSpecificationMethods(Class<?> specClass) {
+        RandomArguments randomArguments = new RandomArguments(new Random());
+
+        return Arrays.stream(specClass.getDeclaredMethods())
+                .filter(method -> Modifier.isPublic(method.getModifiers()) && Modifier.isStatic(method.getModifiers()))
+                .filter(method -> Specification.class.isAssignableFrom(method.getReturnType()))
+                .filter(method -> Arrays.stream(method.getGenericParameterTypes()).allMatch(randomArguments::isSupported))
+                .sorted(Comparator.comparing(SqlSnapshotHarness::getSignature))
+                .toList();
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private static <T> Specification<T> invoke(Method specMethod) {
+        RandomArguments randomArguments = new RandomArguments(new Random(getSignature(specMethod).hashCode()));
+
+        Type[] parameterTypes = specMethod.getGenericParameterTypes();
+        Object[] arguments = new Object[parameterTypes.length];
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = randomArguments.generate(parameterTypes[i]);
+        }
+
+        return (Specification<T>) specMethod.invoke(null, arguments);
+    }
+
+    private static String getSignature(Method method) {
+        return method.getName() + Arrays.stream(method.getGenericParameterTypes())
+                .map(Type::getTypeName)
+                .toList()
+                .toString()
+                .replace('[', '(')
+                .replace(']', ')');
+    }
+
+    private static String describeFirstDifference(String expected, String actual) {
+        String[] expectedLines = expected.split("\n", -1);
+        String[] actualLines = actual.split("\n", -1);
+
+        for (int i = 0; i < Math.max(expectedLines.length, actualLines.length); i++) {
+            String expectedLine = i < expectedLines.length ? expectedLines[i] : "<end of snapshot>";
+            String actualLine = i < actualLines.length ? actualLines[i] : "<end of snapshot>";
+
+            if (!expectedLine.equals(actualLine)) {
+                return "line " + (i + 1) + ":\n  expected: " + expectedLine + "\n  actual:   " + actualLine;
+            }
+        }
+
+        return "";
+    }
+}